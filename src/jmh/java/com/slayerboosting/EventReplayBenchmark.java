@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.NPC;
+import net.runelite.api.gameval.VarbitID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of a whole recorded session replayed through a fresh {@link PluginHarness}.
+ *
+ * <p>Pass a capture recorded with the {@code recordEvents} config item as
+ * {@code -PjmhCapture=<path>}; without one, a synthetic session of a crowded scene is
+ * recorded first.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class EventReplayBenchmark
+{
+	@Param("")
+	public String capture;
+
+	private Path file;
+	private Path synthetic;
+	private PluginHarness harness;
+
+	@Setup(Level.Trial)
+	public void record() throws Exception
+	{
+		if (!capture.isEmpty())
+		{
+			file = Paths.get(capture);
+			return;
+		}
+
+		synthetic = Files.createTempDirectory("slayerboosting-capture");
+		PluginHarness recorder = new PluginHarness();
+		recorder.setCaptureDirectory(synthetic.toFile());
+		recorder.getConfig().recordEvents = true;
+		recorder.startUp();
+		recorder.tick();
+
+		NPC[] scene = PluginHarness.scene(2000, 11);
+		for (int tick = 0; tick < 500; tick++)
+		{
+			// The scene churns a little every tick, as on a busy world
+			for (int i = tick % 20; i < scene.length; i += 100)
+			{
+				recorder.despawn(scene[i]);
+				recorder.spawn(scene[i]);
+			}
+			for (int i = 0; i < 20; i++)
+			{
+				recorder.setVarbit(10_000 + (tick * 20 + i) % 500, tick + i);
+			}
+			if (tick % 50 == 49)
+			{
+				recorder.setVarbit(VarbitID.SLAYER_TASKS_COMPLETED, tick / 50 + 1);
+			}
+			recorder.tick();
+		}
+		recorder.shutDown();
+
+		File[] files = synthetic.toFile().listFiles();
+		if (files == null || files.length != 1)
+		{
+			throw new IOException("No capture recorded in " + synthetic);
+		}
+		file = files[0].toPath();
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteSynthetic() throws IOException
+	{
+		if (synthetic != null)
+		{
+			Files.deleteIfExists(file);
+			Files.deleteIfExists(synthetic);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void startUp() throws Exception
+	{
+		harness = new PluginHarness();
+		harness.startUp();
+	}
+
+	@TearDown(Level.Invocation)
+	public void shutDown() throws Exception
+	{
+		harness.shutDown();
+	}
+
+	/**
+	 * Every event of the capture, with game ticks back to back.
+	 */
+	@Benchmark
+	public long replay() throws IOException
+	{
+		return EventReplay.replay(file, harness);
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.NPC;
+import net.runelite.api.coords.WorldPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Hot paths of a started {@link SlayerBoostingPlugin} driven through {@link PluginHarness}.
+ *
+ * <p>The stub NPCs are dynamic proxies answering from preboxed values, so the
+ * allocation rates reported by the gc profiler are those of the plugin code.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SlayerBoostingPluginBenchmark
+{
+	private static final int SCENE_SIZE = 2000;
+
+	private PluginHarness harness;
+	private SlayerBoostingPlugin plugin;
+	private NPC[] scene;
+	private Graphics2D graphics;
+	private BufferedImage image;
+	private SlayerState state = SlayerState.EMPTY;
+
+	@Setup
+	public void setUp() throws Exception
+	{
+		harness = new PluginHarness();
+		scene = PluginHarness.scene(SCENE_SIZE, 7);
+		harness.getFakeClient().getNpcs().addAll(Arrays.asList(scene));
+		harness.getFakeClient().setLocalPlayer(new WorldPoint(2931, 3536, 0));
+		harness.startUp();
+		harness.tick();
+
+		plugin = harness.getPlugin();
+		image = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB);
+		graphics = image.createGraphics();
+	}
+
+	@TearDown
+	public void tearDown() throws Exception
+	{
+		graphics.dispose();
+		harness.shutDown();
+	}
+
+	/**
+	 * Rule evaluation as the streak advances one task at a time, including the copy
+	 * with the new streak that a varbit read makes.
+	 */
+	@Benchmark
+	public SlayerState evaluateRules()
+	{
+		int streak = state.getStreak() >= 100_000 ? 0 : state.getStreak() + 1;
+		state = plugin.evaluateRules(state.withCounters(streak, 0, 0));
+		return state;
+	}
+
+	/**
+	 * One NPC overlay rebuild: the highlighter applied to every NPC in a crowded scene.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SCENE_SIZE)
+	public void highlightNpc(Blackhole blackhole)
+	{
+		for (NPC npc : scene)
+		{
+			blackhole.consume(plugin.highlightNpc(npc));
+		}
+	}
+
+	/**
+	 * One frame of the info overlay.
+	 */
+	@Benchmark
+	public Object render()
+	{
+		return harness.getOverlay().render(graphics);
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.NPC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Points and NPC name lookups in {@link SlayerMaster}, each operating on a batch of
+ * {@value #BATCH} inputs per invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlayerMasterBenchmark
+{
+	private static final int BATCH = 1024;
+
+	private final int[] taskNumbers = new int[BATCH];
+	private final SlayerMaster[] masters = new SlayerMaster[BATCH];
+	private final boolean[] westernDiary = new boolean[BATCH];
+	private final boolean[] kourendDiary = new boolean[BATCH];
+	private final String[] npcNames = new String[BATCH];
+
+	@Setup
+	public void setUp()
+	{
+		Random random = new Random(42);
+		for (int i = 0; i < BATCH; i++)
+		{
+			// Streaks cluster below a few thousand, with every tier represented
+			taskNumbers[i] = 1 + random.nextInt(5000);
+			masters[i] = SlayerMaster.values()[random.nextInt(SlayerMaster.values().length)];
+			westernDiary[i] = random.nextBoolean();
+			kourendDiary[i] = random.nextBoolean();
+		}
+
+		NPC[] scene = PluginHarness.scene(BATCH, 42);
+		for (int i = 0; i < BATCH; i++)
+		{
+			npcNames[i] = scene[i].getName();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void getPointsForTask(Blackhole blackhole)
+	{
+		for (int i = 0; i < BATCH; i++)
+		{
+			blackhole.consume(masters[i].getPointsForTask(taskNumbers[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void getPointsForTaskWithDiaries(Blackhole blackhole)
+	{
+		for (int i = 0; i < BATCH; i++)
+		{
+			blackhole.consume(masters[i].getPointsForTask(taskNumbers[i], westernDiary[i], kourendDiary[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void fromNpcName(Blackhole blackhole)
+	{
+		for (int i = 0; i < BATCH; i++)
+		{
+			blackhole.consume(SlayerMaster.fromNpcName(npcNames[i]));
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs computations too heavy for the client thread on a worker thread owned by the
+ * plugin, and hands the results back on the client thread.
+ *
+ * <p>Jobs are keyed by what they compute. A new job for a key cancels the one before
+ * it, whose result is then dropped even if it was already computed; a job with the
+ * same input as the latest one for its key is not run again. Nothing is delivered
+ * after {@link #shutdown()}.</p>
+ */
+@Slf4j
+public final class BackgroundJobs
+{
+	private final ExecutorService executor;
+	private final Consumer<Runnable> clientThread;
+
+	/** Latest job per key, guarded by this. */
+	private final Map<String, Job<?, ?>> latest = new HashMap<>();
+	private boolean shutdown;
+
+	BackgroundJobs(ExecutorService executor, Consumer<Runnable> clientThread)
+	{
+		this.executor = executor;
+		this.clientThread = clientThread;
+	}
+
+	/**
+	 * Create the plugin's own daemon worker thread for jobs.
+	 */
+	static ExecutorService newWorker()
+	{
+		return Executors.newSingleThreadExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "Slayer Boosting jobs");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Compute {@code compute(input)} in the background and pass the result to
+	 * {@code onResult} on the client thread, unless another job for the same key is
+	 * submitted first.
+	 */
+	public synchronized <I, R> void submit(String key, I input, Function<I, R> compute, Consumer<R> onResult)
+	{
+		if (shutdown)
+		{
+			return;
+		}
+
+		Job<?, ?> previous = latest.get(key);
+		if (previous != null)
+		{
+			if (Objects.equals(previous.input, input))
+			{
+				return;
+			}
+			previous.future.cancel(true);
+		}
+
+		Job<I, R> job = new Job<>(key, input, compute, onResult);
+		latest.put(key, job);
+		job.future = executor.submit(job::run);
+	}
+
+	/**
+	 * Cancel all jobs and stop the worker thread without waiting for it. A job still
+	 * running finds it is no longer the latest and drops its result.
+	 */
+	public void shutdown()
+	{
+		synchronized (this)
+		{
+			shutdown = true;
+			latest.clear();
+		}
+
+		executor.shutdownNow();
+	}
+
+	private synchronized boolean isLatest(Job<?, ?> job)
+	{
+		return !shutdown && latest.get(job.key) == job;
+	}
+
+	private final class Job<I, R>
+	{
+		private final String key;
+		private final I input;
+		private final Function<I, R> compute;
+		private final Consumer<R> onResult;
+		private Future<?> future;
+
+		Job(String key, I input, Function<I, R> compute, Consumer<R> onResult)
+		{
+			this.key = key;
+			this.input = input;
+			this.compute = compute;
+			this.onResult = onResult;
+		}
+
+		private void run()
+		{
+			if (!isLatest(this))
+			{
+				return;
+			}
+
+			R result;
+			try
+			{
+				result = compute.apply(input);
+			}
+			catch (RuntimeException e)
+			{
+				log.warn("Background job {} failed", key, e);
+				return;
+			}
+
+			if (Thread.currentThread().isInterrupted() || !isLatest(this))
+			{
+				return;
+			}
+
+			// Checked again on the client thread, a newer job may have started meanwhile
+			clientThread.accept(() ->
+			{
+				if (isLatest(this))
+				{
+					onResult.accept(result);
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.awt.Color;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Immutable copy of {@link SlayerBoostingConfig}, taken once per config change.
+ *
+ * <p>Every call on the injected config goes through RuneLite's config proxy, which
+ * looks the value up by key and parses it. Hot paths read this snapshot instead,
+ * where each value is a plain field.</p>
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ConfigSnapshot
+{
+	SlayerMaster defaultMaster;
+	boolean showOverlay;
+	OverlayDisplayMode overlayMode;
+	boolean highlightMasters;
+	boolean showMasterNames;
+	boolean highlightCorrectMaster;
+	boolean highlightWrongMasters;
+	Color correctMasterColor;
+	Color wrongMasterColor;
+	boolean eliteWesternDiary;
+	boolean eliteKourendDiary;
+	/** Diary variant of the two flags above, see {@link SlayerMaster#getDiaryVariant}. */
+	int diaryVariant;
+	int upcomingBoosts;
+	int projectionTarget;
+	boolean recordHistory;
+	String rules;
+	String optimizerMasters;
+	boolean showOptimalRate;
+	boolean debugOverlay;
+	boolean recordEvents;
+
+	public static ConfigSnapshot of(SlayerBoostingConfig config)
+	{
+		boolean western = config.eliteWesternDiary();
+		boolean kourend = config.eliteKourendDiary();
+		return new ConfigSnapshot(
+			config.defaultMaster(),
+			config.showOverlay(),
+			config.overlayMode(),
+			config.highlightMasters(),
+			config.showMasterNames(),
+			config.highlightCorrectMaster(),
+			config.highlightWrongMasters(),
+			config.correctMasterColor(),
+			config.wrongMasterColor(),
+			western,
+			kourend,
+			SlayerMaster.getDiaryVariant(western, kourend),
+			config.upcomingBoosts(),
+			config.projectionTarget(),
+			config.recordHistory(),
+			config.rules(),
+			config.optimizerMasters(),
+			config.showOptimalRate(),
+			config.debugOverlay(),
+			config.recordEvents());
+	}
+}
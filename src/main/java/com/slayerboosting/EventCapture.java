@@ -0,0 +1,512 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Binary capture of the events the plugin handles, so that real sessions can be
+ * replayed headlessly as benchmarks and regression tests.
+ *
+ * <pre>
+ * header: int magic, short version, short reserved, long start epoch millis
+ * record: byte type, then the fields of that type
+ * </pre>
+ *
+ * <p>Integers are LEB128 varints, zigzag encoded first where they can be negative,
+ * and strings are a varint byte length followed by UTF-8. A {@code TICK} record marks
+ * each game tick, so the tick of an event is the number of {@code TICK} records
+ * before it. NPC names are written once per NPC id in a {@code NPC_DEFINITION}
+ * record, ahead of the first spawn that needs it.</p>
+ */
+@Slf4j
+public final class EventCapture
+{
+	static final int MAGIC = 0x53424543;
+	static final short VERSION = 1;
+	static final int HEADER_SIZE = 16;
+
+	static final int TICK = 0;
+	/** varint state */
+	static final int GAME_STATE = 1;
+	/** varint id, string name */
+	static final int NPC_DEFINITION = 2;
+	/** varint index, varint id, varint plane + 1 (0 without a location), then varint x, varint y */
+	static final int NPC_SPAWNED = 3;
+	/** varint index */
+	static final int NPC_DESPAWNED = 4;
+	/** zigzag varbit id, zigzag varp id, zigzag value */
+	static final int VARBIT_CHANGED = 5;
+	/** string key, byte has value, string value */
+	static final int CONFIG_CHANGED = 6;
+	/** varint type, string message */
+	static final int CHAT_MESSAGE = 7;
+
+	private EventCapture()
+	{
+	}
+
+	/**
+	 * Receives the events of a capture in recorded order.
+	 */
+	public interface Visitor
+	{
+		void tick();
+
+		void gameStateChanged(GameState gameState);
+
+		/**
+		 * @param location where the NPC spawned, or null if it had none
+		 */
+		void npcSpawned(int index, int id, String name, WorldPoint location);
+
+		void npcDespawned(int index);
+
+		void varbitChanged(int varbitId, int varpId, int value);
+
+		/**
+		 * @param value the new value, or null if the key was unset
+		 */
+		void configChanged(String key, String value);
+
+		void chatMessage(ChatMessageType type, String message);
+	}
+
+	/**
+	 * Appends events to a capture file.
+	 *
+	 * <p>Events are encoded into a memory buffer, which the executor writes out a few
+	 * seconds later, or straight away once it is large, so the threads posting events
+	 * never touch the disk. Methods are safe to call from any thread.</p>
+	 */
+	public static final class Writer
+	{
+		private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+		/** Buffered size at which a flush is submitted without waiting for the delay. */
+		private static final int FLUSH_SIZE = INITIAL_BUFFER_SIZE / 2;
+		private static final long FLUSH_DELAY_SECONDS = 5;
+
+		private final Path file;
+		private final ScheduledExecutorService executor;
+
+		/** Events encoded since the last flush, guarded by this. */
+		private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+		/** Buffer handed to the executor for writing, swapped with {@link #pending} on flush. */
+		private ByteBuffer writing = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+		private boolean flushScheduled;
+		private boolean flushSubmitted;
+		private boolean closed;
+
+		/** Name last written per NPC id, guarded by this. */
+		private final Map<Integer, String> npcNames = new HashMap<>();
+
+		/** Opened by the executor on the first flush; null after a failure. */
+		private FileChannel channel;
+		private boolean failed;
+
+		/**
+		 * Start a new capture. The file is created, replacing any previous one, on the
+		 * first flush.
+		 */
+		public Writer(Path file, ScheduledExecutorService executor, long startEpochMillis)
+		{
+			this.file = file;
+			this.executor = executor;
+			pending.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putLong(startEpochMillis);
+		}
+
+		public Path getFile()
+		{
+			return file;
+		}
+
+		public synchronized void tick()
+		{
+			if (begin(1))
+			{
+				pending.put((byte) TICK);
+				end();
+			}
+		}
+
+		public synchronized void gameStateChanged(GameState gameState)
+		{
+			if (begin(6))
+			{
+				pending.put((byte) GAME_STATE);
+				putVarint(zigzag(gameState.getState()));
+				end();
+			}
+		}
+
+		public synchronized void npcSpawned(NPC npc)
+		{
+			int id = npc.getId();
+			String name = npc.getName();
+			if (name != null && !name.equals(npcNames.get(id)))
+			{
+				npcNames.put(id, name);
+				byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+				if (begin(11 + bytes.length))
+				{
+					pending.put((byte) NPC_DEFINITION);
+					putVarint(id);
+					putBytes(bytes);
+					end();
+				}
+			}
+
+			if (begin(26))
+			{
+				WorldPoint location = npc.getWorldLocation();
+				pending.put((byte) NPC_SPAWNED);
+				putVarint(npc.getIndex());
+				putVarint(id);
+				if (location == null)
+				{
+					putVarint(0);
+				}
+				else
+				{
+					putVarint(location.getPlane() + 1);
+					putVarint(location.getX());
+					putVarint(location.getY());
+				}
+				end();
+			}
+		}
+
+		public synchronized void npcDespawned(NPC npc)
+		{
+			if (begin(6))
+			{
+				pending.put((byte) NPC_DESPAWNED);
+				putVarint(npc.getIndex());
+				end();
+			}
+		}
+
+		public synchronized void varbitChanged(int varbitId, int varpId, int value)
+		{
+			if (begin(16))
+			{
+				pending.put((byte) VARBIT_CHANGED);
+				putVarint(zigzag(varbitId));
+				putVarint(zigzag(varpId));
+				putVarint(zigzag(value));
+				end();
+			}
+		}
+
+		public synchronized void configChanged(String key, String value)
+		{
+			byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+			byte[] valueBytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+			if (begin(12 + keyBytes.length + valueBytes.length))
+			{
+				pending.put((byte) CONFIG_CHANGED);
+				putBytes(keyBytes);
+				pending.put((byte) (value != null ? 1 : 0));
+				putBytes(valueBytes);
+				end();
+			}
+		}
+
+		public synchronized void chatMessage(ChatMessageType type, String message)
+		{
+			byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+			if (begin(11 + bytes.length))
+			{
+				pending.put((byte) CHAT_MESSAGE);
+				putVarint(type.getType());
+				putBytes(bytes);
+				end();
+			}
+		}
+
+		/**
+		 * Write any buffered events and close the file. Runs on the executor.
+		 */
+		public void close()
+		{
+			synchronized (this)
+			{
+				if (closed)
+				{
+					return;
+				}
+				closed = true;
+			}
+
+			executor.submit(() ->
+			{
+				flush();
+				if (channel != null)
+				{
+					try
+					{
+						channel.close();
+					}
+					catch (IOException e)
+					{
+						log.warn("Unable to close event capture {}", file, e);
+					}
+					channel = null;
+				}
+			});
+		}
+
+		/**
+		 * Make room for a record of at most {@code maxSize} bytes. Returns false once
+		 * the capture is closed.
+		 */
+		private boolean begin(int maxSize)
+		{
+			if (closed)
+			{
+				return false;
+			}
+			if (pending.remaining() < maxSize)
+			{
+				// Only reached when the executor has fallen behind
+				ByteBuffer grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + maxSize));
+				pending.flip();
+				grown.put(pending);
+				pending = grown;
+			}
+			return true;
+		}
+
+		private void end()
+		{
+			if (pending.position() >= FLUSH_SIZE && !flushSubmitted)
+			{
+				flushSubmitted = true;
+				executor.submit(this::flush);
+			}
+			else if (!flushScheduled)
+			{
+				flushScheduled = true;
+				executor.schedule(this::flush, FLUSH_DELAY_SECONDS, TimeUnit.SECONDS);
+			}
+		}
+
+		private void putVarint(int value)
+		{
+			int v = value;
+			while ((v & ~0x7F) != 0)
+			{
+				pending.put((byte) (v & 0x7F | 0x80));
+				v >>>= 7;
+			}
+			pending.put((byte) v);
+		}
+
+		private void putBytes(byte[] bytes)
+		{
+			putVarint(bytes.length);
+			pending.put(bytes);
+		}
+
+		/**
+		 * Write the buffered events. Only called on the executor, which runs one task at
+		 * a time, so the channel and {@link #writing} buffer need no further locking.
+		 */
+		private void flush()
+		{
+			ByteBuffer buffer;
+			synchronized (this)
+			{
+				flushScheduled = false;
+				flushSubmitted = false;
+				if (pending.position() == 0)
+				{
+					return;
+				}
+				buffer = pending;
+				pending = writing;
+				writing = buffer;
+			}
+
+			buffer.flip();
+			try
+			{
+				if (!failed && channel == null)
+				{
+					Files.createDirectories(file.getParent());
+					channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING);
+				}
+				if (channel != null)
+				{
+					while (buffer.hasRemaining())
+					{
+						channel.write(buffer);
+					}
+				}
+			}
+			catch (IOException e)
+			{
+				log.warn("Unable to write event capture {}", file, e);
+				failed = true;
+				channel = null;
+			}
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * Feed the events of a capture file to a visitor. A record cut short at the end of
+	 * the file, as left by a client that did not shut down cleanly, ends the capture.
+	 *
+	 * @return the number of events read, counting ticks
+	 * @throws IOException if the file cannot be read or is not an event capture
+	 */
+	public static long read(Path file, Visitor visitor) throws IOException
+	{
+		MappedByteBuffer buffer;
+		try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+		}
+
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION)
+		{
+			throw new IOException("Not an event capture file: " + file);
+		}
+		buffer.position(HEADER_SIZE);
+
+		Map<Integer, String> npcNames = new HashMap<>();
+		long events = 0;
+		try
+		{
+			while (buffer.hasRemaining())
+			{
+				int type = buffer.get();
+				switch (type)
+				{
+					case TICK:
+						visitor.tick();
+						break;
+					case GAME_STATE:
+						visitor.gameStateChanged(GameState.of(unzigzag(getVarint(buffer))));
+						break;
+					case NPC_DEFINITION:
+						npcNames.put(getVarint(buffer), getString(buffer));
+						// Not an event of its own
+						events--;
+						break;
+					case NPC_SPAWNED:
+					{
+						int index = getVarint(buffer);
+						int id = getVarint(buffer);
+						int plane = getVarint(buffer) - 1;
+						WorldPoint location = plane < 0 ? null : new WorldPoint(getVarint(buffer), getVarint(buffer), plane);
+						visitor.npcSpawned(index, id, npcNames.get(id), location);
+						break;
+					}
+					case NPC_DESPAWNED:
+						visitor.npcDespawned(getVarint(buffer));
+						break;
+					case VARBIT_CHANGED:
+						visitor.varbitChanged(unzigzag(getVarint(buffer)), unzigzag(getVarint(buffer)), unzigzag(getVarint(buffer)));
+						break;
+					case CONFIG_CHANGED:
+					{
+						String key = getString(buffer);
+						boolean hasValue = buffer.get() != 0;
+						String value = getString(buffer);
+						visitor.configChanged(key, hasValue ? value : null);
+						break;
+					}
+					case CHAT_MESSAGE:
+						visitor.chatMessage(ChatMessageType.of(getVarint(buffer)), getString(buffer));
+						break;
+					default:
+						throw new IOException("Unknown event type " + type + " at offset " + (buffer.position() - 1) + " of " + file);
+				}
+				events++;
+			}
+		}
+		catch (BufferUnderflowException e)
+		{
+			log.warn("Event capture {} ends in a partial record", file);
+		}
+		return events;
+	}
+
+	private static int zigzag(int value)
+	{
+		return value << 1 ^ value >> 31;
+	}
+
+	private static int unzigzag(int value)
+	{
+		return value >>> 1 ^ -(value & 1);
+	}
+
+	private static int getVarint(ByteBuffer buffer)
+	{
+		int value = 0;
+		for (int shift = 0; ; shift += 7)
+		{
+			byte b = buffer.get();
+			value |= (b & 0x7F) << shift;
+			if (b >= 0)
+			{
+				return value;
+			}
+		}
+	}
+
+	private static String getString(ByteBuffer buffer)
+	{
+		int length = getVarint(buffer);
+		if (length > buffer.remaining())
+		{
+			throw new BufferUnderflowException();
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from int keys to int values. Lookups do not box or
+ * allocate. {@link Integer#MIN_VALUE} is reserved and cannot be used as a key.
+ */
+public final class IntIntMap
+{
+	private static final int FREE = Integer.MIN_VALUE;
+
+	private final int missingValue;
+	private int[] keys;
+	private int[] values;
+	private int size;
+
+	/**
+	 * @param missingValue the value returned by {@link #get(int)} for absent keys
+	 */
+	public IntIntMap(int missingValue)
+	{
+		this.missingValue = missingValue;
+		allocate(16);
+	}
+
+	private void allocate(int capacity)
+	{
+		keys = new int[capacity];
+		values = new int[capacity];
+		Arrays.fill(keys, FREE);
+	}
+
+	private static int mix(int key)
+	{
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	public int get(int key)
+	{
+		int mask = keys.length - 1;
+		for (int i = mix(key) & mask; ; i = (i + 1) & mask)
+		{
+			int k = keys[i];
+			if (k == key)
+			{
+				return values[i];
+			}
+			if (k == FREE)
+			{
+				return missingValue;
+			}
+		}
+	}
+
+	public void put(int key, int value)
+	{
+		if (key == FREE)
+		{
+			throw new IllegalArgumentException("reserved key");
+		}
+
+		int mask = keys.length - 1;
+		int i = mix(key) & mask;
+		while (keys[i] != FREE)
+		{
+			if (keys[i] == key)
+			{
+				values[i] = value;
+				return;
+			}
+			i = (i + 1) & mask;
+		}
+
+		keys[i] = key;
+		values[i] = value;
+		if (++size * 2 > keys.length)
+		{
+			rehash();
+		}
+	}
+
+	private void rehash()
+	{
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(oldKeys.length * 2);
+		size = 0;
+		for (int i = 0; i < oldKeys.length; i++)
+		{
+			if (oldKeys[i] != FREE)
+			{
+				put(oldKeys[i], oldValues[i]);
+			}
+		}
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public void clear()
+	{
+		Arrays.fill(keys, FREE);
+		size = 0;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket latency histogram. Recording is a bucket search over a dozen bounds
+ * and two {@link LongAdder} increments, with no allocation.
+ */
+public final class LatencyHistogram
+{
+	/** Inclusive upper bounds of each bucket in nanoseconds; the last bucket is unbounded. */
+	private static final long[] BUCKET_BOUNDS = {
+		1_000, 2_000, 5_000, 10_000, 20_000, 50_000, 100_000,
+		200_000, 500_000, 1_000_000, 2_000_000, 5_000_000, 10_000_000,
+	};
+
+	private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS.length + 1];
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+	public LatencyHistogram()
+	{
+		for (int i = 0; i < buckets.length; i++)
+		{
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	public void record(long nanos)
+	{
+		int bucket = 0;
+		while (bucket < BUCKET_BOUNDS.length && nanos > BUCKET_BOUNDS[bucket])
+		{
+			bucket++;
+		}
+		buckets[bucket].increment();
+		count.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulate(nanos);
+	}
+
+	public long getCount()
+	{
+		return count.sum();
+	}
+
+	public long getTotalNanos()
+	{
+		return totalNanos.sum();
+	}
+
+	public long getMaxNanos()
+	{
+		return maxNanos.get();
+	}
+
+	public long getMeanNanos()
+	{
+		long n = count.sum();
+		return n == 0 ? 0 : totalNanos.sum() / n;
+	}
+
+	/**
+	 * Returns the upper bound of the bucket containing the given quantile, or the
+	 * maximum seen if it falls in the unbounded bucket.
+	 *
+	 * @param quantile between 0 and 1, e.g. 0.99
+	 */
+	public long getQuantileNanos(double quantile)
+	{
+		long n = count.sum();
+		if (n == 0)
+		{
+			return 0;
+		}
+
+		long target = (long) Math.ceil(n * quantile);
+		long seen = 0;
+		for (int i = 0; i < BUCKET_BOUNDS.length; i++)
+		{
+			seen += buckets[i].sum();
+			if (seen >= target)
+			{
+				return BUCKET_BOUNDS[i];
+			}
+		}
+		return maxNanos.get();
+	}
+
+	public void reset()
+	{
+		for (LongAdder bucket : buckets)
+		{
+			bucket.reset();
+		}
+		count.reset();
+		totalNanos.reset();
+		maxNanos.reset();
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.BitSet;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Where each slayer master NPC stands, indexed by map region so proximity can be
+ * decided from the player's region alone, before the master NPC has spawned.
+ *
+ * <p>Aya, Achtryn and Steve take over from Turael, Mazchna and Nieve on the same
+ * tiles, so those entries cover them too.</p>
+ *
+ * <p>Region ids, and so the region index, do not include the plane, and distances
+ * against this table ignore it as well, since some masters stand on an upper floor
+ * of their building.</p>
+ */
+@Getter
+@AllArgsConstructor
+public enum MasterSpawn
+{
+	/** Also Aya's spot. */
+	TURAEL(SlayerMaster.TURAEL, new WorldPoint(2931, 3536, 0)),
+	SPRIA(SlayerMaster.TURAEL, new WorldPoint(3092, 3267, 0)),
+	/** Also Achtryn's spot. */
+	MAZCHNA(SlayerMaster.MAZCHNA, new WorldPoint(3510, 3507, 0)),
+	VANNAKA(SlayerMaster.VANNAKA, new WorldPoint(3145, 9914, 0)),
+	CHAELDAR(SlayerMaster.CHAELDAR, new WorldPoint(2445, 4431, 0)),
+	/** Also Steve's spot. */
+	NIEVE(SlayerMaster.NIEVE, new WorldPoint(2432, 3423, 0)),
+	DURADEL(SlayerMaster.DURADEL, new WorldPoint(2869, 2982, 1)),
+	KURADAL(SlayerMaster.DURADEL, new WorldPoint(1739, 5312, 1)),
+	KONAR(SlayerMaster.KONAR, new WorldPoint(1308, 3786, 0));
+
+	private final SlayerMaster master;
+	private final WorldPoint location;
+
+	private static final MasterSpawn[] VALUES = values();
+
+	/** Regions containing a spawn or bordering one, i.e. where a master may come into view. */
+	private static final BitSet APPROACH_REGIONS = new BitSet(1 << 16);
+
+	/** Bitmask of spawn ordinals in and around each region of {@link #APPROACH_REGIONS}. */
+	private static final IntIntMap SPAWNS_BY_REGION = new IntIntMap(0);
+
+	static
+	{
+		for (MasterSpawn spawn : VALUES)
+		{
+			int regionX = spawn.location.getX() >> 6;
+			int regionY = spawn.location.getY() >> 6;
+			for (int dx = -1; dx <= 1; dx++)
+			{
+				for (int dy = -1; dy <= 1; dy++)
+				{
+					int region = ((regionX + dx) << 8) | (regionY + dy);
+					APPROACH_REGIONS.set(region);
+					SPAWNS_BY_REGION.put(region, SPAWNS_BY_REGION.get(region) | (1 << spawn.ordinal()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Whether the region contains or borders a slayer master spawn, on any plane.
+	 */
+	public static boolean isApproachRegion(int regionId)
+	{
+		return regionId >= 0 && APPROACH_REGIONS.get(regionId);
+	}
+
+	/**
+	 * Returns the spawn within {@code tiles} tiles (Chebyshev distance, any plane) of
+	 * the given location, or null. Only spawns indexed for the location's region are
+	 * checked, so a location away from every master costs one region lookup.
+	 */
+	public static MasterSpawn findNear(WorldPoint point, int tiles)
+	{
+		if (!isApproachRegion(point.getRegionID()))
+		{
+			return null;
+		}
+
+		int mask = SPAWNS_BY_REGION.get(point.getRegionID());
+		while (mask != 0)
+		{
+			MasterSpawn spawn = VALUES[Integer.numberOfTrailingZeros(mask)];
+			mask &= mask - 1;
+
+			int dx = Math.abs(spawn.location.getX() - point.getX());
+			int dy = Math.abs(spawn.location.getY() - point.getY());
+			if (Math.max(dx, dy) <= tiles)
+			{
+				return spawn;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.Arrays;
+
+/**
+ * Boosting milestones precomputed from a {@link RuleTable}: the tasks before the
+ * rules' preamble, followed by one full period.
+ *
+ * <p>The period is the LCM of the rule table's period and the 1,000-task tier cycle,
+ * so from the preamble onward both the winning rule and the point value repeat
+ * exactly every period. Each slot holds a task number in [1, preamble + period) that
+ * is covered by a rule, together with the winning master and the points that task
+ * awards. Slots from {@code firstPeriodicSlot} on describe the repeating part.</p>
+ */
+public final class MilestoneSchedule
+{
+	/** Largest period that will be precomputed; rule sets beyond this fall back to scanning. */
+	static final int MAX_PERIOD = 1 << 18;
+
+	private static final int TIER_CYCLE = 1000;
+
+	private final int preamble;
+	private final int period;
+	private final int diaryVariant;
+	private final int[] slotTasks;
+	private final SlayerMaster[] slotMasters;
+	private final int[] slotPoints;
+	/** Index of the first slot at or after the preamble. */
+	private final int firstPeriodicSlot;
+
+	private MilestoneSchedule(int preamble, int period, int diaryVariant, int[] slotTasks, SlayerMaster[] slotMasters, int[] slotPoints)
+	{
+		this.preamble = preamble;
+		this.period = period;
+		this.diaryVariant = diaryVariant;
+		this.slotTasks = slotTasks;
+		this.slotMasters = slotMasters;
+		this.slotPoints = slotPoints;
+		int idx = Arrays.binarySearch(slotTasks, preamble);
+		this.firstPeriodicSlot = idx >= 0 ? idx : -idx - 1;
+	}
+
+	/**
+	 * Build the schedule for a rule table.
+	 *
+	 * @return the schedule, or null if the preamble and period together would exceed
+	 * {@link #MAX_PERIOD}
+	 */
+	public static MilestoneSchedule build(RuleTable rules, boolean eliteWesternDiary, boolean eliteKourendDiary)
+	{
+		if (rules.getPeriod() > MAX_PERIOD)
+		{
+			return null;
+		}
+		long period = RuleExpression.lcm(TIER_CYCLE, rules.getPeriod());
+		int preamble = rules.getPreamble();
+		if (preamble + period > MAX_PERIOD)
+		{
+			return null;
+		}
+
+		int[] tasks = new int[16];
+		SlayerMaster[] masters = new SlayerMaster[16];
+		int[] points = new int[16];
+		int count = 0;
+
+		for (int task = 1; task < preamble + period; task++)
+		{
+			int rule = rules.match(task);
+			if (rule < 0)
+			{
+				continue;
+			}
+
+			if (count == tasks.length)
+			{
+				tasks = Arrays.copyOf(tasks, count * 2);
+				masters = Arrays.copyOf(masters, count * 2);
+				points = Arrays.copyOf(points, count * 2);
+			}
+
+			SlayerMaster master = rules.getMaster(rule);
+			tasks[count] = task;
+			masters[count] = master;
+			points[count] = master.getPointsForTask(task, eliteWesternDiary, eliteKourendDiary);
+			count++;
+		}
+
+		return new MilestoneSchedule(preamble, (int) period,
+			SlayerMaster.getDiaryVariant(eliteWesternDiary, eliteKourendDiary),
+			Arrays.copyOf(tasks, count),
+			Arrays.copyOf(masters, count),
+			Arrays.copyOf(points, count));
+	}
+
+	public int getPeriod()
+	{
+		return period;
+	}
+
+	/**
+	 * First task number of the repeating part of the schedule.
+	 */
+	public int getPreamble()
+	{
+		return preamble;
+	}
+
+	/**
+	 * Create a cursor positioned at the given task number.
+	 */
+	public Cursor cursor(int taskNumber)
+	{
+		Cursor cursor = new Cursor();
+		cursor.seek(taskNumber);
+		return cursor;
+	}
+
+	/**
+	 * Create a projection of points earned over task ranges, with tasks that no rule
+	 * covers done for the given default master.
+	 */
+	public Projection projection(SlayerMaster defaultMaster)
+	{
+		return new Projection(defaultMaster);
+	}
+
+	/**
+	 * Points earned over arbitrary task ranges, answered from prefix sums instead of
+	 * summing task by task.
+	 *
+	 * <p>Every task is worth the default master's points for its tier, plus for milestone
+	 * tasks the difference to the winning master's points. The default part repeats every
+	 * 1,000 tasks and the milestone part every period after the preamble, so one prefix
+	 * sum over each gives the total up to any task number with a division and a binary
+	 * search over the milestone slots, regardless of the size of the range.</p>
+	 */
+	public final class Projection
+	{
+		/** Default master points for tasks 1..r of a tier cycle, for r in [0, 1000]. */
+		private final long[] defaultPrefix = new long[TIER_CYCLE + 1];
+		/** Extra milestone points over the default for slots [0, i), for i in [0, slot count]. */
+		private final long[] milestonePrefix = new long[slotTasks.length + 1];
+		/** Extra milestone points over the default for one whole period. */
+		private final long periodExtra;
+
+		private Projection(SlayerMaster defaultMaster)
+		{
+			for (int r = 1; r <= TIER_CYCLE; r++)
+			{
+				defaultPrefix[r] = defaultPrefix[r - 1]
+					+ defaultMaster.getPointsForTier(SlayerMaster.getTier(r), diaryVariant);
+			}
+			for (int i = 0; i < slotTasks.length; i++)
+			{
+				int base = defaultMaster.getPointsForTier(SlayerMaster.getTier(slotTasks[i]), diaryVariant);
+				milestonePrefix[i + 1] = milestonePrefix[i] + slotPoints[i] - base;
+			}
+			periodExtra = milestonePrefix[slotTasks.length] - milestonePrefix[firstPeriodicSlot];
+		}
+
+		/**
+		 * Points earned by completing tasks {@code fromTask} to {@code toTask} inclusive,
+		 * or 0 if the range is empty. Task numbers below 1 are clamped to 1.
+		 *
+		 * @throws ArithmeticException if the total does not fit in a long
+		 */
+		public long getPoints(long fromTask, long toTask)
+		{
+			long from = Math.max(fromTask, 1);
+			if (toTask < from)
+			{
+				return 0;
+			}
+			return pointsThrough(toTask) - pointsThrough(from - 1);
+		}
+
+		/**
+		 * Points earned by completing tasks 1 to {@code task} inclusive.
+		 */
+		private long pointsThrough(long task)
+		{
+			long points = Math.addExact(Math.multiplyExact(task / TIER_CYCLE, defaultPrefix[TIER_CYCLE]),
+				defaultPrefix[(int) (task % TIER_CYCLE)]);
+
+			long periods = task < preamble ? 0 : (task - preamble) / period;
+			int offset = (int) (task - periods * period);
+			int idx = Arrays.binarySearch(slotTasks, offset);
+			long extra = milestonePrefix[idx >= 0 ? idx + 1 : -idx - 1];
+
+			return Math.addExact(points, periods == 0 ? extra : Math.addExact(Math.multiplyExact(periods, periodExtra), extra));
+		}
+	}
+
+	/**
+	 * A position in the schedule. Moving forward one task is O(1), as are lookups of
+	 * the k-th upcoming milestone.
+	 */
+	public final class Cursor
+	{
+		/** The task number the cursor points at. */
+		private int task;
+		/** Multiple of the period subtracted from the task number to find its slot. */
+		private int cycleBase;
+		/** Index of the first slot at or after the current task; may equal the slot count. */
+		private int slot;
+
+		public int getTask()
+		{
+			return task;
+		}
+
+		/**
+		 * Reposition the cursor on an arbitrary task number using a binary search.
+		 */
+		public void seek(int taskNumber)
+		{
+			task = Math.max(taskNumber, 1);
+			cycleBase = task < preamble ? 0 : (task - preamble) / period * period;
+			int idx = Arrays.binarySearch(slotTasks, task - cycleBase);
+			slot = idx >= 0 ? idx : -idx - 1;
+		}
+
+		/**
+		 * Move to the next task.
+		 */
+		public void advance()
+		{
+			task++;
+			int offset = task - cycleBase;
+			if (offset >= preamble + period)
+			{
+				cycleBase += period;
+				slot = firstPeriodicSlot;
+			}
+			else if (slot < slotTasks.length && slotTasks[slot] < offset)
+			{
+				slot++;
+			}
+		}
+
+		/**
+		 * Move to a task number, advancing in O(1) when it is the next task and
+		 * seeking otherwise.
+		 */
+		public void moveTo(int taskNumber)
+		{
+			if (taskNumber == task + 1)
+			{
+				advance();
+			}
+			else if (taskNumber != task)
+			{
+				seek(taskNumber);
+			}
+		}
+
+		/**
+		 * Whether the current task is covered by a rule.
+		 */
+		public boolean isMilestone()
+		{
+			return slot < slotTasks.length && slotTasks[slot] == task - cycleBase;
+		}
+
+		/**
+		 * Number of tasks from the current task to the next milestone (0 if the current
+		 * task is one), or -1 if there are no more milestones.
+		 */
+		public int tasksUntilNextMilestone()
+		{
+			int offset = task - cycleBase;
+			if (slot < slotTasks.length)
+			{
+				return slotTasks[slot] - offset;
+			}
+			if (firstPeriodicSlot == slotTasks.length)
+			{
+				return -1;
+			}
+			return period - offset + slotTasks[firstPeriodicSlot];
+		}
+
+		/**
+		 * Task number of the k-th upcoming milestone, where k = 0 is the next one at or
+		 * after the current task. Returns -1 if there are fewer than k + 1 more milestones.
+		 */
+		public long getMilestoneTask(int k)
+		{
+			long idx = (long) slot + k;
+			if (idx < slotTasks.length)
+			{
+				return cycleBase + slotTasks[(int) idx];
+			}
+			int periodic = slotTasks.length - firstPeriodicSlot;
+			if (periodic == 0)
+			{
+				return -1;
+			}
+			long wrapped = idx - slotTasks.length;
+			return cycleBase + (wrapped / periodic + 1) * period + slotTasks[firstPeriodicSlot + (int) (wrapped % periodic)];
+		}
+
+		/**
+		 * Winning master of the k-th upcoming milestone, or null if there are fewer than
+		 * k + 1 more milestones.
+		 */
+		public SlayerMaster getMilestoneMaster(int k)
+		{
+			int idx = slotIndex(k);
+			return idx < 0 ? null : slotMasters[idx];
+		}
+
+		/**
+		 * Points awarded by the k-th upcoming milestone, or 0 if there are fewer than
+		 * k + 1 more milestones.
+		 */
+		public int getMilestonePoints(int k)
+		{
+			int idx = slotIndex(k);
+			return idx < 0 ? 0 : slotPoints[idx];
+		}
+
+		private int slotIndex(int k)
+		{
+			long idx = (long) slot + k;
+			if (idx < slotTasks.length)
+			{
+				return (int) idx;
+			}
+			int periodic = slotTasks.length - firstPeriodicSlot;
+			return periodic == 0 ? -1 : firstPeriodicSlot + (int) ((idx - slotTasks.length) % periodic);
+		}
+	}
+}
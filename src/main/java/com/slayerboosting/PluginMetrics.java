@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Low-overhead performance counters for the plugin's hot paths, shown by
+ * {@link SlayerBoostingDebugOverlay}. Timings are recorded by callers with
+ * {@link System#nanoTime()} around the measured code.
+ */
+public final class PluginMetrics
+{
+	@Getter
+	@AllArgsConstructor
+	public enum Timer
+	{
+		VARBIT_CHANGED("onVarbitChanged"),
+		HIGHLIGHT_NPC("highlightNpc"),
+		EVALUATE_RULES("evaluateRules"),
+		OVERLAY_RENDER("Overlay render");
+
+		private final String displayName;
+	}
+
+	private final LatencyHistogram[] timers = new LatencyHistogram[Timer.values().length];
+
+	@Getter
+	private final LongAdder overlayRebuilds = new LongAdder();
+
+	@Getter
+	private final LongAdder infoOverlayRedraws = new LongAdder();
+
+	@Getter
+	private final LongAdder npcSpawnsSeen = new LongAdder();
+
+	@Getter
+	private final LongAdder npcSpawnsMatched = new LongAdder();
+
+	/** Varbit events for the slayer variables. */
+	@Getter
+	private final LongAdder varbitEventsAccepted = new LongAdder();
+
+	/** Varbit events for unrelated variables, rejected without touching the client. */
+	@Getter
+	private final LongAdder varbitEventsIgnored = new LongAdder();
+
+	public PluginMetrics()
+	{
+		for (int i = 0; i < timers.length; i++)
+		{
+			timers[i] = new LatencyHistogram();
+		}
+	}
+
+	/**
+	 * Record time spent in a measured section that started at {@code startNanos}.
+	 */
+	public void record(Timer timer, long startNanos)
+	{
+		timers[timer.ordinal()].record(System.nanoTime() - startNanos);
+	}
+
+	public LatencyHistogram get(Timer timer)
+	{
+		return timers[timer.ordinal()];
+	}
+
+	public void reset()
+	{
+		for (LatencyHistogram timer : timers)
+		{
+			timer.reset();
+		}
+		overlayRebuilds.reset();
+		infoOverlayRedraws.reset();
+		npcSpawnsSeen.reset();
+		npcSpawnsMatched.reset();
+		varbitEventsAccepted.reset();
+		varbitEventsIgnored.reset();
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.config.ConfigManager;
+
+/**
+ * Last known slayer state of each RS profile, so the overlay can show the right
+ * master at login before the server has sent the slayer varbits.
+ *
+ * <p>Snapshots of recently used profiles are kept in a small LRU, so switching between
+ * accounts in one client does not go back to the config. Updates only mark a profile
+ * dirty; {@link #flush()} writes the dirty ones in one batch, and profiles evicted from
+ * the LRU are written on the way out.</p>
+ *
+ * <p>Only used from the client thread.</p>
+ */
+@Slf4j
+public final class ProfileSnapshots
+{
+	static final String KEY = "snapshot";
+	static final int MAX_PROFILES = 8;
+
+	/** Cached in place of profiles with no stored snapshot, so they are looked up once. */
+	private static final Snapshot NONE = new Snapshot(-1, -1, -1);
+
+	private final ConfigManager configManager;
+	private final Set<String> dirty = new HashSet<>();
+	private final Map<String, Snapshot> recent = new LinkedHashMap<String, Snapshot>(16, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest)
+		{
+			if (size() <= MAX_PROFILES)
+			{
+				return false;
+			}
+			if (dirty.remove(eldest.getKey()))
+			{
+				write(eldest.getKey(), eldest.getValue());
+			}
+			return true;
+		}
+	};
+
+	public ProfileSnapshots(ConfigManager configManager)
+	{
+		this.configManager = configManager;
+	}
+
+	/**
+	 * The last known state of a profile, or null if it has none.
+	 */
+	public Snapshot get(String profile)
+	{
+		Snapshot snapshot = recent.get(profile);
+		if (snapshot == null)
+		{
+			snapshot = Snapshot.parse(configManager.getConfiguration(SlayerBoostingConfig.GROUP, profile, KEY));
+			recent.put(profile, snapshot != null ? snapshot : NONE);
+		}
+		return snapshot == NONE ? null : snapshot;
+	}
+
+	/**
+	 * Record the current state of a profile, to be written on the next {@link #flush()}.
+	 */
+	public void update(String profile, int streak, int points, int taskCount)
+	{
+		Snapshot previous = recent.get(profile);
+		if (previous != null && previous.matches(streak, points, taskCount))
+		{
+			return;
+		}
+		recent.put(profile, new Snapshot(streak, points, taskCount));
+		dirty.add(profile);
+	}
+
+	/**
+	 * Write every profile updated since the last flush.
+	 */
+	public void flush()
+	{
+		if (dirty.isEmpty())
+		{
+			return;
+		}
+		for (String profile : dirty)
+		{
+			Snapshot snapshot = recent.get(profile);
+			if (snapshot != null)
+			{
+				write(profile, snapshot);
+			}
+		}
+		log.debug("Saved slayer snapshots of {} profile(s)", dirty.size());
+		dirty.clear();
+	}
+
+	private void write(String profile, Snapshot snapshot)
+	{
+		configManager.setConfiguration(SlayerBoostingConfig.GROUP, profile, KEY, snapshot.serialize());
+	}
+
+	/**
+	 * Slayer state of a profile when it was last seen.
+	 */
+	@Value
+	public static class Snapshot
+	{
+		int streak;
+		int points;
+		int taskCount;
+
+		boolean matches(int streak, int points, int taskCount)
+		{
+			return this.streak == streak && this.points == points && this.taskCount == taskCount;
+		}
+
+		String serialize()
+		{
+			return streak + "," + points + "," + taskCount;
+		}
+
+		/**
+		 * Parse a stored snapshot, or return null if it is missing or malformed.
+		 */
+		static Snapshot parse(String value)
+		{
+			if (value == null)
+			{
+				return null;
+			}
+			String[] parts = value.split(",");
+			if (parts.length != 3)
+			{
+				log.warn("Ignoring malformed slayer snapshot '{}'", value);
+				return null;
+			}
+			try
+			{
+				return new Snapshot(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+			}
+			catch (NumberFormatException e)
+			{
+				log.warn("Ignoring malformed slayer snapshot '{}'", value);
+				return null;
+			}
+		}
+	}
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Condition of one boosting rule, compiled into a postfix program.
+ *
+ * <p>The language has three tests on the task number, combined with {@code and},
+ * {@code or}, {@code not} and parentheses:</p>
+ * <ul>
+ *   <li>{@code every N} - the task is a multiple of N</li>
+ *   <li>{@code every N at R} - the task leaves remainder R when divided by N, e.g.
+ *       {@code every 20 at 10} for the 10th, 30th, 50th... task</li>
+ *   <li>{@code from N} and {@code until N} - the task is at least or at most N</li>
+ * </ul>
+ *
+ * <p>{@link #test} runs the program on a bit stack held in a long, so it allocates
+ * nothing and is safe to call from any thread.</p>
+ */
+final class RuleExpression
+{
+	private static final int EVERY = 0;
+	private static final int FROM = 1;
+	private static final int UNTIL = 2;
+	private static final int AND = 3;
+	private static final int OR = 4;
+	private static final int NOT = 5;
+
+	/** Depth of the bit stack in {@link #test}. */
+	private static final int MAX_DEPTH = Long.SIZE;
+
+	private final int[] program;
+
+	private RuleExpression(int[] program)
+	{
+		this.program = program;
+	}
+
+	/**
+	 * The condition of a legacy {@code interval:master} rule.
+	 */
+	static RuleExpression every(int interval)
+	{
+		return new RuleExpression(new int[]{EVERY, interval, 0});
+	}
+
+	/**
+	 * Compile an expression.
+	 *
+	 * @throws IllegalArgumentException if the expression is malformed
+	 */
+	static RuleExpression parse(String text)
+	{
+		Parser parser = new Parser(tokenize(text));
+		parser.parseOr();
+		if (parser.pos < parser.tokens.size())
+		{
+			throw new IllegalArgumentException("unexpected '" + parser.tokens.get(parser.pos) + "'");
+		}
+
+		int[] program = parser.program.stream().mapToInt(Integer::intValue).toArray();
+		if (maxDepth(program) > MAX_DEPTH)
+		{
+			throw new IllegalArgumentException("expression is nested too deeply");
+		}
+		return new RuleExpression(program);
+	}
+
+	/**
+	 * Run the condition. Divisibility tests use {@code residueTask} and threshold tests
+	 * use {@code thresholdTask}; both are the task number when testing a single task,
+	 * and a compiled lookup table passes a residue and a representative task instead.
+	 */
+	boolean test(int residueTask, int thresholdTask)
+	{
+		long stack = 0;
+		for (int pc = 0; pc < program.length; )
+		{
+			switch (program[pc])
+			{
+				case EVERY:
+					stack = stack << 1 | (residueTask % program[pc + 1] == program[pc + 2] ? 1 : 0);
+					pc += 3;
+					break;
+				case FROM:
+					stack = stack << 1 | (thresholdTask >= program[pc + 1] ? 1 : 0);
+					pc += 2;
+					break;
+				case UNTIL:
+					stack = stack << 1 | (thresholdTask <= program[pc + 1] ? 1 : 0);
+					pc += 2;
+					break;
+				case AND:
+					stack = stack >>> 1 & (stack | ~1L);
+					pc++;
+					break;
+				case OR:
+					stack = stack >>> 1 | (stack & 1);
+					pc++;
+					break;
+				default:
+					stack ^= 1;
+					pc++;
+					break;
+			}
+		}
+		return (stack & 1) != 0;
+	}
+
+	/**
+	 * Least common multiple of the divisors, or {@code limit + 1} if it exceeds {@code limit}.
+	 */
+	long period(long limit)
+	{
+		long period = 1;
+		for (int pc = 0; pc < program.length; pc += width(program[pc]))
+		{
+			if (program[pc] == EVERY)
+			{
+				period = lcm(period, program[pc + 1]);
+				if (period > limit)
+				{
+					return limit + 1;
+				}
+			}
+		}
+		return period;
+	}
+
+	/**
+	 * Add the first task number of each range over which the threshold tests are
+	 * constant.
+	 */
+	void addThresholds(Set<Integer> thresholds)
+	{
+		for (int pc = 0; pc < program.length; pc += width(program[pc]))
+		{
+			if (program[pc] == FROM && program[pc + 1] > 0)
+			{
+				thresholds.add(program[pc + 1]);
+			}
+			else if (program[pc] == UNTIL && program[pc + 1] < Integer.MAX_VALUE)
+			{
+				thresholds.add(program[pc + 1] + 1);
+			}
+		}
+	}
+
+	static long lcm(long a, long b)
+	{
+		long x = a;
+		long y = b;
+		while (y != 0)
+		{
+			long t = x % y;
+			x = y;
+			y = t;
+		}
+		return a / x * b;
+	}
+
+	private static int width(int op)
+	{
+		switch (op)
+		{
+			case EVERY:
+				return 3;
+			case FROM:
+			case UNTIL:
+				return 2;
+			default:
+				return 1;
+		}
+	}
+
+	private static int maxDepth(int[] program)
+	{
+		int depth = 0;
+		int max = 0;
+		for (int pc = 0; pc < program.length; pc += width(program[pc]))
+		{
+			int op = program[pc];
+			depth += op <= UNTIL ? 1 : op == NOT ? 0 : -1;
+			max = Math.max(max, depth);
+		}
+		return max;
+	}
+
+	private static List<String> tokenize(String text)
+	{
+		List<String> tokens = new ArrayList<>();
+		int i = 0;
+		while (i < text.length())
+		{
+			char c = text.charAt(i);
+			if (Character.isWhitespace(c))
+			{
+				i++;
+			}
+			else if (c == '(' || c == ')')
+			{
+				tokens.add(String.valueOf(c));
+				i++;
+			}
+			else
+			{
+				int start = i;
+				while (i < text.length() && Character.isLetterOrDigit(text.charAt(i)))
+				{
+					i++;
+				}
+				if (i == start)
+				{
+					throw new IllegalArgumentException("unexpected '" + c + "'");
+				}
+				tokens.add(text.substring(start, i).toLowerCase());
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * Recursive descent over the tokens, emitting the program in postfix order.
+	 * {@code not} binds tightest, then {@code and}, then {@code or}.
+	 */
+	private static final class Parser
+	{
+		private final List<String> tokens;
+		private final List<Integer> program = new ArrayList<>();
+		private int pos;
+
+		Parser(List<String> tokens)
+		{
+			this.tokens = tokens;
+		}
+
+		void parseOr()
+		{
+			parseAnd();
+			while (accept("or"))
+			{
+				parseAnd();
+				program.add(OR);
+			}
+		}
+
+		void parseAnd()
+		{
+			parseUnary();
+			while (accept("and"))
+			{
+				parseUnary();
+				program.add(AND);
+			}
+		}
+
+		void parseUnary()
+		{
+			if (accept("not"))
+			{
+				parseUnary();
+				program.add(NOT);
+				return;
+			}
+
+			if (accept("("))
+			{
+				parseOr();
+				expect(")");
+			}
+			else if (accept("every"))
+			{
+				int interval = number();
+				if (interval <= 0)
+				{
+					throw new IllegalArgumentException("'every' needs a positive interval");
+				}
+				int remainder = accept("at") ? number() % interval : 0;
+				program.addAll(Arrays.asList(EVERY, interval, remainder));
+			}
+			else if (accept("from"))
+			{
+				program.addAll(Arrays.asList(FROM, number()));
+			}
+			else if (accept("until"))
+			{
+				program.addAll(Arrays.asList(UNTIL, number()));
+			}
+			else
+			{
+				throw new IllegalArgumentException(pos < tokens.size()
+					? "unexpected '" + tokens.get(pos) + "'"
+					: "unexpected end of rule");
+			}
+		}
+
+		private boolean accept(String token)
+		{
+			if (pos < tokens.size() && tokens.get(pos).equals(token))
+			{
+				pos++;
+				return true;
+			}
+			return false;
+		}
+
+		private void expect(String token)
+		{
+			if (!accept(token))
+			{
+				throw new IllegalArgumentException("expected '" + token + "'");
+			}
+		}
+
+		private int number()
+		{
+			if (pos >= tokens.size())
+			{
+				throw new IllegalArgumentException("expected a number");
+			}
+			try
+			{
+				return Integer.parseInt(tokens.get(pos++));
+			}
+			catch (NumberFormatException e)
+			{
+				throw new IllegalArgumentException("expected a number, not '" + tokens.get(pos - 1) + "'");
+			}
+		}
+	}
+
+	@Override
+	public boolean equals(Object o)
+	{
+		return o instanceof RuleExpression && Arrays.equals(program, ((RuleExpression) o).program);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Arrays.hashCode(program);
+	}
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finds the rule set earning the most slayer points per unit of cost over the
+ * 1,000-task milestone cycle.
+ *
+ * <p>Points depend only on a task's milestone tier, so an assignment is one master
+ * per tier. Maximising the ratio of points to cost is solved exactly with
+ * Dinkelbach's method: for a trial rate {@code r}, the best assignment maximises
+ * {@code sum(count[t] * (points - r * cost))}, which the stage-by-stage DP over the
+ * six tiers solves by picking each tier's best master independently. The rate of
+ * that assignment becomes the next trial rate until it stops improving, which
+ * happens after a handful of iterations.</p>
+ */
+@Slf4j
+public final class RuleOptimizer
+{
+	private static final int CYCLE = 1000;
+	private static final int MAX_ITERATIONS = 64;
+	private static final double EPSILON = 1e-12;
+
+	/** Rule interval of each tier; tier 0 is covered by the default master. */
+	private static final int[] TIER_INTERVALS = {0, 10, 50, 100, 250, 1000};
+
+	/** Number of tasks of each tier in one cycle. */
+	private static final int[] TIER_COUNTS = new int[SlayerMaster.TIER_COUNT];
+
+	static
+	{
+		for (int task = 1; task <= CYCLE; task++)
+		{
+			TIER_COUNTS[SlayerMaster.getTier(task)]++;
+		}
+	}
+
+	private RuleOptimizer()
+	{
+	}
+
+	/**
+	 * The optimal assignment and the rules expressing it.
+	 */
+	@Getter
+	public static final class Solution
+	{
+		/** Default master, used for tasks no rule covers. */
+		private final SlayerMaster defaultMaster;
+		/** Minimal rule table giving every milestone tier its optimal master. */
+		private final RuleTable rules;
+		/** Points earned over one 1,000-task cycle. */
+		private final long cyclePoints;
+		/** Cost of one 1,000-task cycle. */
+		private final double cycleCost;
+
+		Solution(SlayerMaster defaultMaster, RuleTable rules, long cyclePoints, double cycleCost)
+		{
+			this.defaultMaster = defaultMaster;
+			this.rules = rules;
+			this.cyclePoints = cyclePoints;
+			this.cycleCost = cycleCost;
+		}
+
+		/**
+		 * Points per unit of cost.
+		 */
+		public double getRate()
+		{
+			return cyclePoints / cycleCost;
+		}
+	}
+
+	/**
+	 * Parse allowed masters and their cost weights, one {@code master:weight} per line
+	 * or comma, e.g. {@code TURAEL:1, KONAR:3}. A master listed without a weight costs 1.
+	 *
+	 * @return cost per master ordinal; 0 for masters that are not allowed
+	 */
+	public static double[] parseCosts(String spec)
+	{
+		double[] costs = new double[SlayerMaster.values().length];
+		if (spec == null)
+		{
+			return costs;
+		}
+
+		for (String entry : spec.split("[,\\n]"))
+		{
+			String trimmed = entry.trim();
+			if (trimmed.isEmpty())
+			{
+				continue;
+			}
+
+			int sep = trimmed.lastIndexOf(':');
+			String name = sep < 0 ? trimmed : trimmed.substring(0, sep).trim();
+			double cost = 1;
+			if (sep >= 0)
+			{
+				try
+				{
+					cost = Double.parseDouble(trimmed.substring(sep + 1).trim());
+				}
+				catch (NumberFormatException e)
+				{
+					cost = Double.NaN;
+				}
+			}
+
+			SlayerMaster master = RuleTable.parseMaster(name);
+			if (master == null || !(cost > 0) || Double.isInfinite(cost))
+			{
+				log.warn("Ignoring invalid slayer boosting optimizer entry: {}", trimmed);
+				continue;
+			}
+			costs[master.ordinal()] = cost;
+		}
+		return costs;
+	}
+
+	/**
+	 * Solve for the rule set with the most points per unit of cost.
+	 *
+	 * @param costs cost per master ordinal, 0 for masters that may not be used
+	 * @param diaryVariant see {@link SlayerMaster#getDiaryVariant(boolean, boolean)}
+	 * @return the optimal solution, or null if no master is allowed
+	 */
+	public static Solution solve(double[] costs, int diaryVariant)
+	{
+		SlayerMaster[] masters = SlayerMaster.values();
+		int[] assignment = new int[SlayerMaster.TIER_COUNT];
+		double rate = 0;
+
+		for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++)
+		{
+			// DP over tiers: each stage's value only depends on its own choice
+			for (int tier = 0; tier < SlayerMaster.TIER_COUNT; tier++)
+			{
+				int best = -1;
+				double bestValue = Double.NEGATIVE_INFINITY;
+				for (SlayerMaster master : masters)
+				{
+					double cost = costs[master.ordinal()];
+					if (cost <= 0)
+					{
+						continue;
+					}
+					double value = master.getPointsForTier(tier, diaryVariant) - rate * cost;
+					// Prefer the cheaper master on ties, so zero-point tiers go to the cheapest one
+					if (value > bestValue + EPSILON
+						|| (value > bestValue - EPSILON && cost < costs[best]))
+					{
+						best = master.ordinal();
+						bestValue = value;
+					}
+				}
+				if (best < 0)
+				{
+					return null;
+				}
+				assignment[tier] = best;
+			}
+
+			long points = cyclePoints(assignment, diaryVariant);
+			double cost = cycleCost(assignment, costs);
+			double nextRate = points / cost;
+			if (nextRate <= rate + EPSILON)
+			{
+				break;
+			}
+			rate = nextRate;
+		}
+
+		SlayerMaster[] tierMasters = new SlayerMaster[SlayerMaster.TIER_COUNT];
+		for (int tier = 0; tier < tierMasters.length; tier++)
+		{
+			tierMasters[tier] = masters[assignment[tier]];
+		}
+		return new Solution(tierMasters[0], toRules(tierMasters),
+			cyclePoints(assignment, diaryVariant), cycleCost(assignment, costs));
+	}
+
+	/**
+	 * Points per unit of cost of an existing rule set. Masters without a cost weight
+	 * are counted at a cost of 1.
+	 *
+	 * <p>The rate is taken over one period of the rules from their preamble, or over
+	 * the first 1,000 tasks if that period exceeds {@link MilestoneSchedule#MAX_PERIOD}.</p>
+	 */
+	public static double rate(RuleTable rules, SlayerMaster defaultMaster, double[] costs, int diaryVariant)
+	{
+		int first = 1;
+		long length = CYCLE;
+		if (rules.getPeriod() <= MilestoneSchedule.MAX_PERIOD)
+		{
+			long period = RuleExpression.lcm(CYCLE, rules.getPeriod());
+			if (rules.getPreamble() + period <= MilestoneSchedule.MAX_PERIOD)
+			{
+				first = rules.getPreamble();
+				length = period;
+			}
+		}
+
+		long points = 0;
+		double cost = 0;
+		for (int task = first; task < first + length; task++)
+		{
+			int rule = rules.match(task);
+			SlayerMaster master = rule >= 0 ? rules.getMaster(rule) : defaultMaster;
+			points += master.getPointsForTier(SlayerMaster.getTier(task), diaryVariant);
+			double c = costs[master.ordinal()];
+			cost += c > 0 ? c : 1;
+		}
+		return points / cost;
+	}
+
+	private static long cyclePoints(int[] assignment, int diaryVariant)
+	{
+		long points = 0;
+		for (int tier = 0; tier < assignment.length; tier++)
+		{
+			points += (long) TIER_COUNTS[tier] * SlayerMaster.fromOrdinal(assignment[tier]).getPointsForTier(tier, diaryVariant);
+		}
+		return points;
+	}
+
+	private static double cycleCost(int[] assignment, double[] costs)
+	{
+		double cost = 0;
+		for (int tier = 0; tier < assignment.length; tier++)
+		{
+			cost += TIER_COUNTS[tier] * costs[assignment[tier]];
+		}
+		return cost;
+	}
+
+	/**
+	 * Express a per-tier assignment as rules. Start from one rule per milestone tier,
+	 * then drop each rule, highest interval first, whose removal does not change the
+	 * master of any task in the cycle.
+	 */
+	private static RuleTable toRules(SlayerMaster[] tierMasters)
+	{
+		boolean[] keep = new boolean[TIER_INTERVALS.length];
+		Arrays.fill(keep, 1, keep.length, true);
+
+		for (int tier = TIER_INTERVALS.length - 1; tier >= 1; tier--)
+		{
+			keep[tier] = false;
+			if (!coversAssignment(buildRules(tierMasters, keep), tierMasters))
+			{
+				keep[tier] = true;
+			}
+		}
+		return buildRules(tierMasters, keep);
+	}
+
+	private static RuleTable buildRules(SlayerMaster[] tierMasters, boolean[] keep)
+	{
+		StringBuilder spec = new StringBuilder();
+		for (int tier = 1; tier < TIER_INTERVALS.length; tier++)
+		{
+			if (keep[tier])
+			{
+				spec.append(TIER_INTERVALS[tier]).append(':').append(tierMasters[tier].name()).append('\n');
+			}
+		}
+		return RuleTable.parse(spec.toString());
+	}
+
+	private static boolean coversAssignment(RuleTable rules, SlayerMaster[] tierMasters)
+	{
+		for (int task = 1; task <= CYCLE; task++)
+		{
+			int rule = rules.match(task);
+			SlayerMaster master = rule >= 0 ? rules.getMaster(rule) : tierMasters[0];
+			if (master != tierMasters[SlayerMaster.getTier(task)])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Immutable table of boosting rules compiled from the serialized rule list in the
+ * config.
+ *
+ * <p>Each rule pairs a condition on the task number with a master, and the first
+ * matching rule wins. Conditions only test divisibility and thresholds, so the
+ * winning rule depends on the task number modulo the LCM of the divisors and on the
+ * range between thresholds it falls in. When that fits, parsing compiles the rules
+ * into one lookup table indexed by range and residue, and matching is an array read.
+ * Larger rule sets are matched by running each condition in turn. Either way,
+ * matching allocates nothing.</p>
+ */
+@Slf4j
+public final class RuleTable
+{
+	public static final RuleTable EMPTY = new RuleTable(new String[0], new SlayerMaster[0], new RuleExpression[0]);
+
+	/** Largest lookup table that will be compiled, in entries. */
+	static final int MAX_TABLE_SIZE = 1 << 20;
+
+	/** Periods above this are reported as {@code PERIOD_LIMIT + 1}. */
+	private static final long PERIOD_LIMIT = Integer.MAX_VALUE;
+
+	private final String[] texts;
+	private final SlayerMaster[] masters;
+	private final RuleExpression[] conditions;
+	private final long period;
+	/** First task number of each threshold range, ascending; the first is always 0. */
+	private final int[] rangeStarts;
+	/** Winning rule for range {@code r} and residue {@code t % period} at {@code r * period + t % period}, or null. */
+	private final short[] lookup;
+
+	private RuleTable(String[] texts, SlayerMaster[] masters, RuleExpression[] conditions)
+	{
+		this.texts = texts;
+		this.masters = masters;
+		this.conditions = conditions;
+
+		long lcm = 1;
+		TreeSet<Integer> thresholds = new TreeSet<>();
+		thresholds.add(0);
+		for (RuleExpression condition : conditions)
+		{
+			lcm = Math.min(RuleExpression.lcm(lcm, condition.period(PERIOD_LIMIT)), PERIOD_LIMIT + 1);
+			condition.addThresholds(thresholds);
+		}
+		period = lcm;
+		rangeStarts = thresholds.stream().mapToInt(Integer::intValue).toArray();
+		lookup = compile();
+	}
+
+	private short[] compile()
+	{
+		if (conditions.length > Short.MAX_VALUE || period * rangeStarts.length > MAX_TABLE_SIZE)
+		{
+			return null;
+		}
+
+		int p = (int) period;
+		short[] table = new short[p * rangeStarts.length];
+		for (int range = 0; range < rangeStarts.length; range++)
+		{
+			for (int residue = 0; residue < p; residue++)
+			{
+				table[range * p + residue] = (short) scan(residue, rangeStarts[range]);
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Compile a serialized rule list. Entries are separated by newlines or commas and
+	 * take one of two forms:
+	 * <ul>
+	 *   <li>{@code interval:master}, e.g. {@code 10:Duradel}, for every interval-th task</li>
+	 *   <li>{@code master: condition}, e.g. {@code Konar: every 50 and from 500}, where the
+	 *       condition is in the language described by {@link RuleExpression}</li>
+	 * </ul>
+	 * The master may be given by enum name, display name or NPC name. Invalid entries
+	 * are skipped.
+	 *
+	 * <p>Entries of the first form are checked first, highest interval first as in
+	 * earlier versions, whatever the order they are written in. Entries of the second
+	 * form are checked after them, in the order written.</p>
+	 *
+	 * @param spec the serialized rule list, may be null
+	 * @return the compiled table
+	 */
+	public static RuleTable parse(String spec)
+	{
+		List<String> parsedTexts = new ArrayList<>();
+		List<SlayerMaster> parsedMasters = new ArrayList<>();
+		List<RuleExpression> parsedConditions = new ArrayList<>();
+		List<Integer> intervals = new ArrayList<>();
+
+		for (String entry : spec == null ? new String[0] : spec.split("[,\\n]"))
+		{
+			String trimmed = entry.trim();
+			if (trimmed.isEmpty())
+			{
+				continue;
+			}
+
+			int sep = trimmed.indexOf(':');
+			if (sep < 0)
+			{
+				log.warn("Ignoring malformed slayer boosting rule: {}", trimmed);
+				continue;
+			}
+
+			String left = trimmed.substring(0, sep).trim();
+			String right = trimmed.substring(sep + 1).trim();
+			SlayerMaster master;
+			RuleExpression condition;
+			String text;
+			if (!left.isEmpty() && Character.isDigit(left.charAt(0)))
+			{
+				int interval;
+				try
+				{
+					interval = Integer.parseInt(left);
+				}
+				catch (NumberFormatException e)
+				{
+					log.warn("Ignoring slayer boosting rule with bad interval: {}", trimmed);
+					continue;
+				}
+
+				master = parseMaster(right);
+				if (interval <= 0 || master == null)
+				{
+					log.warn("Ignoring invalid slayer boosting rule: {}", trimmed);
+					continue;
+				}
+				condition = RuleExpression.every(interval);
+				text = interval + ":" + master.name();
+				intervals.add(interval);
+			}
+			else
+			{
+				master = parseMaster(left);
+				if (master == null)
+				{
+					log.warn("Ignoring slayer boosting rule with unknown master: {}", trimmed);
+					continue;
+				}
+				try
+				{
+					condition = RuleExpression.parse(right);
+				}
+				catch (IllegalArgumentException e)
+				{
+					log.warn("Ignoring slayer boosting rule ({}): {}", e.getMessage(), trimmed);
+					continue;
+				}
+				text = master.name() + ": " + right;
+				intervals.add(0);
+			}
+
+			parsedTexts.add(text);
+			parsedMasters.add(master);
+			parsedConditions.add(condition);
+		}
+
+		Integer[] order = new Integer[parsedTexts.size()];
+		for (int i = 0; i < order.length; i++)
+		{
+			order[i] = i;
+		}
+		// Plain intervals first, highest first, then conditions as written. The sort is
+		// stable, so the first rule written wins between equal intervals.
+		Arrays.sort(order, Comparator.comparingInt((Integer i) -> intervals.get(i)).reversed());
+
+		String[] texts = new String[order.length];
+		SlayerMaster[] masters = new SlayerMaster[order.length];
+		RuleExpression[] conditions = new RuleExpression[order.length];
+		for (int i = 0; i < order.length; i++)
+		{
+			texts[i] = parsedTexts.get(order[i]);
+			masters[i] = parsedMasters.get(order[i]);
+			conditions[i] = parsedConditions.get(order[i]);
+		}
+		return new RuleTable(texts, masters, conditions);
+	}
+
+	static SlayerMaster parseMaster(String name)
+	{
+		for (SlayerMaster master : SlayerMaster.values())
+		{
+			if (master.name().equalsIgnoreCase(name) || master.getDisplayName().equalsIgnoreCase(name))
+			{
+				return master;
+			}
+		}
+		return SlayerMaster.fromNpcName(name);
+	}
+
+	/**
+	 * Returns the index of the winning rule for a task number, or -1 if no rule matches.
+	 */
+	public int match(int taskNumber)
+	{
+		if (lookup == null || taskNumber < 0)
+		{
+			return scan(taskNumber, taskNumber);
+		}
+
+		int range = 0;
+		if (rangeStarts.length > 1)
+		{
+			int idx = Arrays.binarySearch(rangeStarts, taskNumber);
+			range = idx >= 0 ? idx : -idx - 2;
+		}
+		int p = (int) period;
+		return lookup[range * p + taskNumber % p];
+	}
+
+	private int scan(int residueTask, int thresholdTask)
+	{
+		for (int i = 0; i < conditions.length; i++)
+		{
+			if (conditions[i].test(residueTask, thresholdTask))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Whether matching reads a compiled lookup table rather than running each rule.
+	 */
+	boolean isCompiled()
+	{
+		return lookup != null;
+	}
+
+	public int size()
+	{
+		return masters.length;
+	}
+
+	/**
+	 * From {@link #getPreamble()} onward, the winning rule for a task repeats every
+	 * period tasks. Periods larger than {@link Integer#MAX_VALUE} are reported as
+	 * {@code Integer.MAX_VALUE + 1}.
+	 */
+	public long getPeriod()
+	{
+		return period;
+	}
+
+	/**
+	 * First task number from which the winning rule repeats every {@link #getPeriod()}
+	 * tasks; 1 unless a rule has a {@code from} or {@code until} threshold.
+	 */
+	public int getPreamble()
+	{
+		return Math.max(rangeStarts[rangeStarts.length - 1], 1);
+	}
+
+	public SlayerMaster getMaster(int index)
+	{
+		return masters[index];
+	}
+
+	/**
+	 * The rule as it appears in the serialized rule list.
+	 */
+	public String getRuleText(int index)
+	{
+		return texts[index];
+	}
+
+	@Override
+	public boolean equals(Object o)
+	{
+		if (this == o)
+		{
+			return true;
+		}
+		if (!(o instanceof RuleTable))
+		{
+			return false;
+		}
+		RuleTable other = (RuleTable) o;
+		return Arrays.equals(conditions, other.conditions) && Arrays.equals(masters, other.masters);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return 31 * Arrays.hashCode(conditions) + Arrays.hashCode(masters);
+	}
+}
@@ -30,10 +30,13 @@ import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigSection;
+import net.runelite.client.config.Range;
 
-@ConfigGroup("slayerboosting")
+@ConfigGroup(SlayerBoostingConfig.GROUP)
 public interface SlayerBoostingConfig extends Config
 {
+	String GROUP = "slayerboosting";
+
 	// ── General ──────────────────────────────────────────
 
 	@ConfigSection(
@@ -177,232 +180,123 @@ public interface SlayerBoostingConfig extends Config
 		return false;
 	}
 
-	// ── Rule 1 ───────────────────────────────────────────
-
-	@ConfigSection(
-		name = "Rule 1",
-		description = "Boosting rule 1 (highest-interval rule wins if multiple match)",
-		position = 10
+	@Range(
+		max = 10
 	)
-	String rule1Section = "rule1";
-
 	@ConfigItem(
-		keyName = "rule1Enabled",
-		name = "Enabled",
-		description = "Enable this boosting rule",
-		position = 0,
-		section = rule1Section
+		keyName = "upcomingBoosts",
+		name = "Upcoming Boosts",
+		description = "Number of upcoming milestone tasks to list in the info overlay",
+		position = 11,
+		section = generalSection
 	)
-	default boolean rule1Enabled()
+	default int upcomingBoosts()
 	{
-		return true;
+		return 1;
 	}
 
 	@ConfigItem(
-		keyName = "rule1Interval",
-		name = "Every N tasks",
-		description = "Use the specified master every N tasks (e.g. 10 = every 10th task)",
-		position = 1,
-		section = rule1Section
+		keyName = "projectionTarget",
+		name = "Projection Target",
+		description = "Show the points you will earn from your next task up to this task number in the info overlay (0 to hide)",
+		position = 12,
+		section = generalSection
 	)
-	default int rule1Interval()
+	default int projectionTarget()
 	{
-		return 10;
+		return 0;
 	}
 
 	@ConfigItem(
-		keyName = "rule1Master",
-		name = "Slayer Master",
-		description = "Which slayer master to use for this milestone",
-		position = 2,
-		section = rule1Section
-	)
-	default SlayerMaster rule1Master()
-	{
-		return SlayerMaster.DURADEL;
-	}
-
-	// ── Rule 2 ───────────────────────────────────────────
-
-	@ConfigSection(
-		name = "Rule 2",
-		description = "Boosting rule 2",
-		position = 20,
-		closedByDefault = true
-	)
-	String rule2Section = "rule2";
-
-	@ConfigItem(
-		keyName = "rule2Enabled",
-		name = "Enabled",
-		description = "Enable this boosting rule",
-		position = 0,
-		section = rule2Section
+		keyName = "recordHistory",
+		name = "Record Task History",
+		description = "Keep a log of completed tasks, with the points and master of each, in the RuneLite folder",
+		position = 13,
+		section = generalSection
 	)
-	default boolean rule2Enabled()
+	default boolean recordHistory()
 	{
 		return true;
 	}
 
-	@ConfigItem(
-		keyName = "rule2Interval",
-		name = "Every N tasks",
-		description = "Use the specified master every N tasks",
-		position = 1,
-		section = rule2Section
-	)
-	default int rule2Interval()
-	{
-		return 50;
-	}
-
-	@ConfigItem(
-		keyName = "rule2Master",
-		name = "Slayer Master",
-		description = "Which slayer master to use for this milestone",
-		position = 2,
-		section = rule2Section
-	)
-	default SlayerMaster rule2Master()
-	{
-		return SlayerMaster.KONAR;
-	}
-
-	// ── Rule 3 ───────────────────────────────────────────
+	// ── Rules ────────────────────────────────────────────
 
 	@ConfigSection(
-		name = "Rule 3",
-		description = "Boosting rule 3",
-		position = 30,
-		closedByDefault = true
+		name = "Rules",
+		description = "Boosting rules (interval rules first, highest interval first; then condition rules in order)",
+		position = 10
 	)
-	String rule3Section = "rule3";
+	String rulesSection = "rulesSection";
 
 	@ConfigItem(
-		keyName = "rule3Enabled",
-		name = "Enabled",
-		description = "Enable this boosting rule",
+		keyName = "rules",
+		name = "Rules",
+		description = "One rule per line as 'interval:master', e.g. '10:Duradel', or 'master: condition',"
+			+ " e.g. 'Konar: every 50 and from 500'. Conditions combine 'every N', 'every N at R', 'from N'"
+			+ " and 'until N' with 'and', 'or', 'not' and parentheses",
 		position = 0,
-		section = rule3Section
-	)
-	default boolean rule3Enabled()
-	{
-		return false;
-	}
-
-	@ConfigItem(
-		keyName = "rule3Interval",
-		name = "Every N tasks",
-		description = "Use the specified master every N tasks",
-		position = 1,
-		section = rule3Section
-	)
-	default int rule3Interval()
-	{
-		return 100;
-	}
-
-	@ConfigItem(
-		keyName = "rule3Master",
-		name = "Slayer Master",
-		description = "Which slayer master to use for this milestone",
-		position = 2,
-		section = rule3Section
+		section = rulesSection
 	)
-	default SlayerMaster rule3Master()
+	default String rules()
 	{
-		return SlayerMaster.KONAR;
+		return "10:DURADEL\n50:KONAR";
 	}
 
-	// ── Rule 4 ───────────────────────────────────────────
+	// ── Optimizer ────────────────────────────────────────
 
 	@ConfigSection(
-		name = "Rule 4",
-		description = "Boosting rule 4",
-		position = 40,
+		name = "Optimizer",
+		description = "Work out the rules earning the most points for the time spent",
+		position = 20,
 		closedByDefault = true
 	)
-	String rule4Section = "rule4";
+	String optimizerSection = "optimizerSection";
 
 	@ConfigItem(
-		keyName = "rule4Enabled",
-		name = "Enabled",
-		description = "Enable this boosting rule",
+		keyName = "optimizerMasters",
+		name = "Allowed Masters",
+		description = "Masters the optimizer may use with their relative cost per task (e.g. average task length), one 'master:cost' per line",
 		position = 0,
-		section = rule4Section
+		section = optimizerSection
 	)
-	default boolean rule4Enabled()
+	default String optimizerMasters()
 	{
-		return false;
+		return "TURAEL:1\nDURADEL:3\nKONAR:3";
 	}
 
 	@ConfigItem(
-		keyName = "rule4Interval",
-		name = "Every N tasks",
-		description = "Use the specified master every N tasks",
+		keyName = "showOptimalRate",
+		name = "Show Optimal Rate",
+		description = "Show the points per cost of your rules and of the optimal rules in the info overlay",
 		position = 1,
-		section = rule4Section
-	)
-	default int rule4Interval()
-	{
-		return 250;
-	}
-
-	@ConfigItem(
-		keyName = "rule4Master",
-		name = "Slayer Master",
-		description = "Which slayer master to use for this milestone",
-		position = 2,
-		section = rule4Section
+		section = optimizerSection
 	)
-	default SlayerMaster rule4Master()
+	default boolean showOptimalRate()
 	{
-		return SlayerMaster.KONAR;
+		return false;
 	}
 
-	// ── Rule 5 ───────────────────────────────────────────
-
-	@ConfigSection(
-		name = "Rule 5",
-		description = "Boosting rule 5",
-		position = 50,
-		closedByDefault = true
-	)
-	String rule5Section = "rule5";
+	// ── Debug ────────────────────────────────────────────
 
 	@ConfigItem(
-		keyName = "rule5Enabled",
-		name = "Enabled",
-		description = "Enable this boosting rule",
-		position = 0,
-		section = rule5Section
+		keyName = "debugOverlay",
+		name = "Debug Overlay",
+		description = "Show plugin performance metrics in a secondary overlay",
+		hidden = true
 	)
-	default boolean rule5Enabled()
+	default boolean debugOverlay()
 	{
 		return false;
 	}
 
 	@ConfigItem(
-		keyName = "rule5Interval",
-		name = "Every N tasks",
-		description = "Use the specified master every N tasks",
-		position = 1,
-		section = rule5Section
+		keyName = "recordEvents",
+		name = "Record Events",
+		description = "Record the events the plugin handles to .runelite/slayer-boosting/captures for replay",
+		hidden = true
 	)
-	default int rule5Interval()
+	default boolean recordEvents()
 	{
-		return 1000;
-	}
-
-	@ConfigItem(
-		keyName = "rule5Master",
-		name = "Slayer Master",
-		description = "Which slayer master to use for this milestone",
-		position = 2,
-		section = rule5Section
-	)
-	default SlayerMaster rule5Master()
-	{
-		return SlayerMaster.KONAR;
+		return false;
 	}
 }
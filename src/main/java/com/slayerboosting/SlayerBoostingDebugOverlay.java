@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import javax.inject.Inject;
+import net.runelite.client.ui.overlay.OverlayPanel;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.OverlayPriority;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+
+/**
+ * Secondary overlay showing the plugin's performance metrics, enabled with the
+ * hidden {@code debugOverlay} config item.
+ */
+public class SlayerBoostingDebugOverlay extends OverlayPanel
+{
+	private static final Color TITLE_COLOR = new Color(255, 152, 31); // RuneLite orange
+	private static final Color SLOW_COLOR = Color.RED;
+	private static final Color NORMAL_COLOR = Color.WHITE;
+
+	/** p99 latency above which a timer is flagged, in nanoseconds. */
+	private static final long SLOW_NANOS = 1_000_000;
+
+	private final SlayerBoostingPlugin plugin;
+
+	@Inject
+	public SlayerBoostingDebugOverlay(SlayerBoostingPlugin plugin)
+	{
+		super(plugin);
+		this.plugin = plugin;
+		setPosition(OverlayPosition.TOP_LEFT);
+		setPriority(OverlayPriority.LOW);
+		panelComponent.setPreferredSize(new Dimension(220, 0));
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		ConfigSnapshot config = plugin.getConfigSnapshot();
+		if (config == null || !config.isDebugOverlay())
+		{
+			return null;
+		}
+
+		PluginMetrics metrics = plugin.getMetrics();
+
+		panelComponent.getChildren().add(
+			TitleComponent.builder()
+				.text("Slayer Boosting Debug")
+				.color(TITLE_COLOR)
+				.build()
+		);
+
+		// Per timer: calls, mean / p99 / max in microseconds
+		for (PluginMetrics.Timer timer : PluginMetrics.Timer.values())
+		{
+			LatencyHistogram histogram = metrics.get(timer);
+			long p99 = histogram.getQuantileNanos(0.99);
+			panelComponent.getChildren().add(
+				LineComponent.builder()
+					.left(timer.getDisplayName())
+					.right(histogram.getCount() + "x")
+					.build()
+			);
+			panelComponent.getChildren().add(
+				LineComponent.builder()
+					.left("  mean/p99/max")
+					.right(micros(histogram.getMeanNanos()) + " / " + micros(p99) + " / "
+						+ micros(histogram.getMaxNanos()) + " us")
+					.rightColor(p99 > SLOW_NANOS ? SLOW_COLOR : NORMAL_COLOR)
+					.build()
+			);
+		}
+
+		panelComponent.getChildren().add(
+			LineComponent.builder()
+				.left("Overlay rebuilds:")
+				.right(String.valueOf(metrics.getOverlayRebuilds().sum()))
+				.build()
+		);
+		panelComponent.getChildren().add(
+			LineComponent.builder()
+				.left("Info overlay redraws:")
+				.right(String.valueOf(metrics.getInfoOverlayRedraws().sum()))
+				.build()
+		);
+		panelComponent.getChildren().add(
+			LineComponent.builder()
+				.left("NPC spawns seen/matched:")
+				.right(metrics.getNpcSpawnsSeen().sum() + " / " + metrics.getNpcSpawnsMatched().sum())
+				.build()
+		);
+		panelComponent.getChildren().add(
+			LineComponent.builder()
+				.left("Varbits used/ignored:")
+				.right(metrics.getVarbitEventsAccepted().sum() + " / " + metrics.getVarbitEventsIgnored().sum())
+				.build()
+		);
+
+		return super.render(graphics);
+	}
+
+	private static String micros(long nanos)
+	{
+		return String.format("%.1f", nanos / 1000.0);
+	}
+}
@@ -24,9 +24,13 @@
  */
 package com.slayerboosting;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
 import javax.inject.Inject;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -37,6 +41,11 @@ import net.runelite.client.ui.overlay.components.TitleComponent;
 /**
  * Permanent top-left overlay showing slayer boosting status:
  * next task number, next master, streak, current points, expected points.
+ *
+ * <p>The panel is drawn into a cached image, which each frame blits. It is only laid
+ * out and drawn again when something it shows changes: the state version, the
+ * config snapshot, a background result, or the font, size or background color the
+ * overlay renderer asks for.</p>
  */
 public class SlayerBoostingOverlay extends OverlayPanel
 {
@@ -45,60 +54,105 @@ public class SlayerBoostingOverlay extends OverlayPanel
 	private static final Color CORRECT_MASTER_COLOR = new Color(0, 255, 128);
 	private static final Color NORMAL_COLOR = Color.WHITE;
 
-	private static final int PROXIMITY_TILES = 15;
-
 	private final SlayerBoostingPlugin plugin;
-	private final SlayerBoostingConfig config;
+
+	/** Target for measuring the panel before the cached image is sized to fit it. */
+	private final BufferedImage measureImage = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+	private BufferedImage image;
+	private Dimension imageSize;
+
+	// What the cached image was drawn from
+	private long imageVersion = -1;
+	private ConfigSnapshot imageConfig;
+	private long imageProjected;
+	private RuleOptimizer.Solution imageOptimalRules;
+	private Font imageFont;
+	private Dimension imagePreferredSize;
+	private Color imageBackground;
 
 	@Inject
-	public SlayerBoostingOverlay(SlayerBoostingPlugin plugin, SlayerBoostingConfig config)
+	public SlayerBoostingOverlay(SlayerBoostingPlugin plugin)
 	{
 		super(plugin);
 		this.plugin = plugin;
-		this.config = config;
 		setPosition(OverlayPosition.TOP_LEFT);
 		setPriority(OverlayPriority.MED);
+		// Children are rebuilt only when the image is redrawn, and are rendered twice then
+		setClearChildren(false);
 	}
 
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		if (!config.showOverlay())
+		long start = System.nanoTime();
+		Dimension dimension = renderPanel(graphics);
+		plugin.getMetrics().record(PluginMetrics.Timer.OVERLAY_RENDER, start);
+		return dimension;
+	}
+
+	private Dimension renderPanel(Graphics2D graphics)
+	{
+		// Display mode, task gating and proximity are decided once per game tick
+		if (!plugin.isOverlayVisible())
 		{
 			return null;
 		}
 
-		int streak = plugin.getStreak();
-		int nextTask = streak + 1;
-		boolean isMilestone = plugin.isMilestoneActive();
-		SlayerMaster nextMaster = plugin.getNextMaster();
+		// Read the state and config once so every line comes from the same tick
+		SlayerState state = plugin.getState();
+		ConfigSnapshot config = plugin.getConfigSnapshot();
 
 		// Don't render if we have no data yet (not logged in)
-		if (nextMaster == null)
+		if (state.getNextMaster() == null)
 		{
 			return null;
 		}
 
-		switch (config.overlayMode())
+		int target = config.getProjectionTarget();
+		long projected = target > state.getStreak() ? plugin.getProjectedPoints(target) : -1;
+		RuleOptimizer.Solution optimalRules = config.isShowOptimalRate() ? plugin.getOptimalRules() : null;
+		Font font = graphics.getFont();
+
+		if (state.getVersion() != imageVersion
+			|| config != imageConfig
+			|| projected != imageProjected
+			|| optimalRules != imageOptimalRules
+			|| !Objects.equals(font, imageFont)
+			|| !Objects.equals(getPreferredSize(), imagePreferredSize)
+			|| !Objects.equals(getPreferredColor(), imageBackground))
 		{
-			case BETWEEN_TASKS:
-				// Hide while the player has an active task; show when they have none.
-				if (plugin.getTaskCount() > 0)
-				{
-					return null;
-				}
-				break;
-			case PROXIMITY:
-				if (!plugin.isPlayerNearSlayerMaster(PROXIMITY_TILES))
-				{
-					return null;
-				}
-				break;
-			case ALWAYS:
-			default:
-				break;
+			buildPanel(state, config, target, projected, optimalRules);
+			redraw(graphics);
+
+			imageVersion = state.getVersion();
+			imageConfig = config;
+			imageProjected = projected;
+			imageOptimalRules = optimalRules;
+			imageFont = font;
+			imagePreferredSize = getPreferredSize() == null ? null : new Dimension(getPreferredSize());
+			imageBackground = getPreferredColor();
 		}
 
+		if (imageSize == null)
+		{
+			return null;
+		}
+		graphics.drawImage(image, 0, 0, null);
+		return imageSize;
+	}
+
+	/**
+	 * Replace the panel's children with the lines for the given state.
+	 */
+	private void buildPanel(SlayerState state, ConfigSnapshot config, int target, long projected,
+		RuleOptimizer.Solution optimalRules)
+	{
+		panelComponent.getChildren().clear();
+		boolean isMilestone = state.isMilestoneActive();
+		SlayerMaster nextMaster = state.getNextMaster();
+		int nextTask = state.getNextTask();
+
 		// Title
 		panelComponent.getChildren().add(
 			TitleComponent.builder()
@@ -108,25 +162,13 @@ public class SlayerBoostingOverlay extends OverlayPanel
 		);
 
 		// Next task number (flagged if milestone)
-		String nextTaskText;
-		Color nextTaskColor;
-		if (isMilestone)
-		{
-			String label = SlayerMaster.getMilestoneLabel(nextTask);
-			nextTaskText = "#" + nextTask + " (" + label + " bonus!)";
-			nextTaskColor = MILESTONE_COLOR;
-		}
-		else
-		{
-			nextTaskText = "#" + nextTask;
-			nextTaskColor = NORMAL_COLOR;
-		}
-
 		panelComponent.getChildren().add(
 			LineComponent.builder()
 				.left("Next task:")
-				.right(nextTaskText)
-				.rightColor(nextTaskColor)
+				.right(isMilestone
+					? "#" + nextTask + " (" + SlayerMaster.getMilestoneLabel(nextTask) + " bonus!)"
+					: "#" + nextTask)
+				.rightColor(isMilestone ? MILESTONE_COLOR : NORMAL_COLOR)
 				.build()
 		);
 
@@ -143,7 +185,7 @@ public class SlayerBoostingOverlay extends OverlayPanel
 		panelComponent.getChildren().add(
 			LineComponent.builder()
 				.left("Streak:")
-				.right(String.valueOf(streak))
+				.right(String.valueOf(state.getStreak()))
 				.rightColor(NORMAL_COLOR)
 				.build()
 		);
@@ -152,21 +194,138 @@ public class SlayerBoostingOverlay extends OverlayPanel
 		panelComponent.getChildren().add(
 			LineComponent.builder()
 				.left("Points:")
-				.right(String.valueOf(plugin.getPoints()))
+				.right(String.valueOf(state.getPoints()))
 				.rightColor(NORMAL_COLOR)
 				.build()
 		);
 
 		// Expected points from next task
-		int nextPts = plugin.getNextTaskPoints();
 		panelComponent.getChildren().add(
 			LineComponent.builder()
 				.left("Next task pts:")
-				.right(nextPts > 0 ? String.valueOf(nextPts) : "N/A")
+				.right(state.getNextTaskPoints() > 0 ? String.valueOf(state.getNextTaskPoints()) : "N/A")
 				.rightColor(isMilestone ? MILESTONE_COLOR : NORMAL_COLOR)
 				.build()
 		);
 
-		return super.render(graphics);
+		// Upcoming milestones, read straight off the schedule cursor
+		MilestoneSchedule.Cursor cursor = plugin.getMilestoneCursor();
+		int upcoming = config.getUpcomingBoosts();
+		if (cursor != null && upcoming > 0 && cursor.tasksUntilNextMilestone() >= 0)
+		{
+			// The next task is already shown above when it is a milestone
+			int first = isMilestone ? 1 : 0;
+			if (!isMilestone)
+			{
+				panelComponent.getChildren().add(
+					LineComponent.builder()
+						.left("Next boost in:")
+						.right(cursor.tasksUntilNextMilestone() + " tasks")
+						.rightColor(NORMAL_COLOR)
+						.build()
+				);
+			}
+
+			for (int k = first; k < first + upcoming; k++)
+			{
+				// Rules with an "until" threshold can run out of milestones
+				SlayerMaster master = cursor.getMilestoneMaster(k);
+				if (master == null)
+				{
+					break;
+				}
+				panelComponent.getChildren().add(
+					LineComponent.builder()
+						.left("#" + cursor.getMilestoneTask(k) + ":")
+						.right(master.getDisplayName() + " (" + cursor.getMilestonePoints(k) + ")")
+						.rightColor(NORMAL_COLOR)
+						.build()
+				);
+			}
+		}
+
+		// Points from the next task up to the configured target
+		if (projected >= 0)
+		{
+			panelComponent.getChildren().add(
+				LineComponent.builder()
+					.left("Pts to #" + target + ":")
+					.right(String.format("%,d", projected))
+					.rightColor(NORMAL_COLOR)
+					.build()
+			);
+		}
+
+		// Points per cost of the configured rules against the optimal rules
+		if (optimalRules != null)
+		{
+			double best = optimalRules.getRate();
+			double current = plugin.getCurrentRate();
+			panelComponent.getChildren().add(
+				LineComponent.builder()
+					.left("Pts/cost:")
+					.right(String.format("%.2f (best %.2f)", current, best))
+					.rightColor(current + 1e-9 >= best ? CORRECT_MASTER_COLOR : NORMAL_COLOR)
+					.build()
+			);
+			if (current + 1e-9 < best)
+			{
+				panelComponent.getChildren().add(
+					LineComponent.builder()
+						.left("Best:")
+						.right(plugin.getOptimalRulesText())
+						.rightColor(NORMAL_COLOR)
+						.build()
+				);
+			}
+		}
+	}
+
+	/**
+	 * Lay out the panel's children and draw them into the cached image, with the
+	 * font and rendering hints of the frame's graphics.
+	 */
+	private void redraw(Graphics2D graphics)
+	{
+		plugin.getMetrics().getInfoOverlayRedraws().increment();
+
+		Graphics2D measure = measureImage.createGraphics();
+		Dimension size;
+		try
+		{
+			measure.setRenderingHints(graphics.getRenderingHints());
+			measure.setFont(graphics.getFont());
+			size = super.render(measure);
+		}
+		finally
+		{
+			measure.dispose();
+		}
+
+		if (size == null || size.width <= 0 || size.height <= 0)
+		{
+			imageSize = null;
+			return;
+		}
+
+		if (image == null || image.getWidth() != size.width || image.getHeight() != size.height)
+		{
+			image = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_ARGB);
+		}
+
+		Graphics2D g = image.createGraphics();
+		try
+		{
+			g.setComposite(AlphaComposite.Clear);
+			g.fillRect(0, 0, size.width, size.height);
+			g.setComposite(AlphaComposite.SrcOver);
+			g.setRenderingHints(graphics.getRenderingHints());
+			g.setFont(graphics.getFont());
+			imageSize = super.render(g);
+		}
+		finally
+		{
+			g.dispose();
+		}
 	}
 }
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.awt.BorderLayout;
+import java.awt.Component;
+import javax.swing.AbstractListModel;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.ListCellRenderer;
+import javax.swing.ListSelectionModel;
+import javax.swing.ScrollPaneConstants;
+import javax.swing.SwingUtilities;
+import javax.swing.border.EmptyBorder;
+import lombok.Value;
+import net.runelite.client.ui.ColorScheme;
+import net.runelite.client.ui.FontManager;
+import net.runelite.client.ui.PluginPanel;
+
+/**
+ * Sidebar panel listing the upcoming tasks with the master to use and the points
+ * each one awards.
+ *
+ * <p>Rows are not stored. The list model only knows the first task and the rules
+ * to apply, and the renderer works out each visible row when Swing paints it:
+ * one rule table lookup and one points table read. One renderer component is
+ * reused for every row. Both cell dimensions are fixed, so the list never measures
+ * rows it does not show. Scrolling through the whole timeline therefore uses the
+ * same memory as showing its first screen.</p>
+ *
+ * <p>The list has no end: it starts with one page of tasks and grows by another
+ * page whenever the last visible row comes within half a page of the end.</p>
+ *
+ * <p>The plugin hands over immutable {@link Timeline}s from the client thread; the
+ * panel reads them only on the event dispatch thread.</p>
+ */
+class SlayerBoostingPanel extends PluginPanel
+{
+	/** Rows the list starts with and grows by. */
+	static final int TIMELINE_PAGE = 1_000;
+
+	private static final int ROW_HEIGHT = 20;
+
+	private final JLabel statusLabel = new JLabel();
+	private final TimelineModel model = new TimelineModel();
+	@VisibleForTesting
+	final JList<Integer> list = new JList<>(model);
+
+	SlayerBoostingPanel()
+	{
+		super(false);
+		setLayout(new BorderLayout(0, 6));
+		setBorder(new EmptyBorder(10, 10, 10, 10));
+		setBackground(ColorScheme.DARK_GRAY_COLOR);
+
+		JPanel header = new JPanel(new BorderLayout());
+		header.setBackground(ColorScheme.DARK_GRAY_COLOR);
+		JLabel title = new JLabel("Upcoming tasks");
+		title.setFont(FontManager.getRunescapeBoldFont());
+		title.setForeground(ColorScheme.BRAND_ORANGE);
+		header.add(title, BorderLayout.NORTH);
+		statusLabel.setFont(FontManager.getRunescapeSmallFont());
+		statusLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
+		header.add(statusLabel, BorderLayout.SOUTH);
+		add(header, BorderLayout.NORTH);
+
+		list.setCellRenderer(new RowRenderer());
+		list.setFixedCellHeight(ROW_HEIGHT);
+		list.setFixedCellWidth(PANEL_WIDTH - 20);
+		list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+		list.setFocusable(false);
+		list.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+
+		JScrollPane scrollPane = new JScrollPane(list);
+		scrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
+		scrollPane.getVerticalScrollBar().setUnitIncrement(ROW_HEIGHT);
+		scrollPane.getViewport().addChangeListener(e -> ensureRows(list.getLastVisibleIndex()));
+		scrollPane.setBorder(null);
+		add(scrollPane, BorderLayout.CENTER);
+
+		showTimeline(null);
+	}
+
+	/**
+	 * Show the tasks of a timeline, or a placeholder for null. Safe to call from any
+	 * thread.
+	 */
+	void setTimeline(Timeline timeline)
+	{
+		SwingUtilities.invokeLater(() -> showTimeline(timeline));
+	}
+
+	private void showTimeline(Timeline timeline)
+	{
+		statusLabel.setText(timeline == null
+			? "Log in to see your upcoming tasks."
+			: "Tasks from #" + timeline.getFirstTask());
+		model.setTimeline(timeline);
+	}
+
+	/**
+	 * Grow the list so that at least half a page of rows follows {@code index}.
+	 * Called on the event dispatch thread with the last visible row as it scrolls.
+	 */
+	@VisibleForTesting
+	void ensureRows(int index)
+	{
+		if (index >= 0)
+		{
+			model.ensureSize((long) index + TIMELINE_PAGE / 2 + 1);
+		}
+	}
+
+	/**
+	 * What the panel lists: tasks from {@code firstTask} on, assigned by the rules with
+	 * the default master for tasks no rule covers.
+	 */
+	@Value
+	static class Timeline
+	{
+		int firstTask;
+		RuleTable rules;
+		SlayerMaster defaultMaster;
+		boolean eliteWesternDiary;
+		boolean eliteKourendDiary;
+	}
+
+	/**
+	 * Task numbers of the timeline, computed from the index. The size only grows
+	 * while a timeline is shown, up to the last task number an int holds.
+	 */
+	private static final class TimelineModel extends AbstractListModel<Integer>
+	{
+		private Timeline timeline;
+		private int size;
+
+		void setTimeline(Timeline timeline)
+		{
+			Timeline previous = this.timeline;
+			this.timeline = timeline;
+			if (timeline == null)
+			{
+				if (previous != null)
+				{
+					int removed = size;
+					size = 0;
+					fireIntervalRemoved(this, 0, removed - 1);
+				}
+			}
+			else if (previous == null)
+			{
+				size = maxSize(timeline, TIMELINE_PAGE);
+				fireIntervalAdded(this, 0, size - 1);
+			}
+			else
+			{
+				// Keep the rows scrolled to so far, the view stays where it is
+				int oldSize = size;
+				size = maxSize(timeline, size);
+				if (size < oldSize)
+				{
+					fireIntervalRemoved(this, size, oldSize - 1);
+				}
+				fireContentsChanged(this, 0, size - 1);
+			}
+		}
+
+		void ensureSize(long wanted)
+		{
+			if (timeline == null || wanted <= size)
+			{
+				return;
+			}
+			int oldSize = size;
+			// Whole pages, so scrolling row by row does not grow the list each time
+			long pages = (wanted + TIMELINE_PAGE - 1) / TIMELINE_PAGE;
+			size = maxSize(timeline, pages * TIMELINE_PAGE);
+			if (size > oldSize)
+			{
+				fireIntervalAdded(this, oldSize, size - 1);
+			}
+		}
+
+		private static int maxSize(Timeline timeline, long size)
+		{
+			return (int) Math.min(size, (long) Integer.MAX_VALUE - timeline.getFirstTask() + 1);
+		}
+
+		@Override
+		public int getSize()
+		{
+			return size;
+		}
+
+		@Override
+		public Integer getElementAt(int index)
+		{
+			return timeline.getFirstTask() + index;
+		}
+	}
+
+	/**
+	 * One row component, filled in for each row as it is painted.
+	 */
+	private final class RowRenderer extends JPanel implements ListCellRenderer<Integer>
+	{
+		private final JLabel taskLabel = new JLabel();
+		private final JLabel masterLabel = new JLabel();
+		private final JLabel pointsLabel = new JLabel();
+
+		RowRenderer()
+		{
+			super(new BorderLayout(6, 0));
+			setBorder(new EmptyBorder(0, 6, 0, 6));
+			for (JLabel label : new JLabel[]{taskLabel, masterLabel, pointsLabel})
+			{
+				label.setFont(FontManager.getRunescapeSmallFont());
+			}
+			add(taskLabel, BorderLayout.WEST);
+			add(masterLabel, BorderLayout.CENTER);
+			add(pointsLabel, BorderLayout.EAST);
+		}
+
+		@Override
+		public Component getListCellRendererComponent(JList<? extends Integer> list, Integer value, int index,
+			boolean isSelected, boolean cellHasFocus)
+		{
+			Timeline timeline = model.timeline;
+			int task = value;
+			RuleTable rules = timeline.getRules();
+			int rule = rules.match(task);
+			SlayerMaster master = rule >= 0 ? rules.getMaster(rule) : timeline.getDefaultMaster();
+			int points = master.getPointsForTask(task, timeline.isEliteWesternDiary(), timeline.isEliteKourendDiary());
+
+			taskLabel.setText("#" + task);
+			masterLabel.setText(master.getDisplayName());
+			pointsLabel.setText(String.valueOf(points));
+
+			taskLabel.setForeground(rule >= 0 ? ColorScheme.BRAND_ORANGE : ColorScheme.LIGHT_GRAY_COLOR);
+			masterLabel.setForeground(rule >= 0 ? ColorScheme.PROGRESS_COMPLETE_COLOR : ColorScheme.LIGHT_GRAY_COLOR);
+			pointsLabel.setForeground(rule >= 0 ? ColorScheme.BRAND_ORANGE : ColorScheme.LIGHT_GRAY_COLOR);
+			setBackground(isSelected
+				? ColorScheme.DARK_GRAY_HOVER_COLOR
+				: index % 2 == 0 ? ColorScheme.DARKER_GRAY_COLOR : ColorScheme.DARK_GRAY_COLOR);
+			return this;
+		}
+	}
+}
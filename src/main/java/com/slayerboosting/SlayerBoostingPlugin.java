@@ -24,29 +24,44 @@
  */
 package com.slayerboosting;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Provides;
 import java.awt.Color;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.List;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import javax.inject.Inject;
 import lombok.Getter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.NPC;
 import net.runelite.api.Player;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
 import net.runelite.api.events.VarbitChanged;
 import net.runelite.api.gameval.VarPlayerID;
 import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
@@ -54,7 +69,10 @@ import net.runelite.client.game.npcoverlay.HighlightedNpc;
 import net.runelite.client.game.npcoverlay.NpcOverlayService;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.ui.ClientToolbar;
+import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.util.ImageUtil;
 
 @Slf4j
 @PluginDescriptor(
@@ -64,55 +82,180 @@ import net.runelite.client.ui.overlay.OverlayManager;
 )
 public class SlayerBoostingPlugin extends Plugin
 {
+	/** Distance from a slayer master within which the overlay shows in proximity mode. */
+	static final int PROXIMITY_TILES = 15;
+
+	/** Game ticks between writes of changed profile snapshots, about a minute. */
+	private static final int SNAPSHOT_FLUSH_TICKS = 100;
+
+	/** Game ticks after login to wait for the slayer varbits before trusting the client's values. */
+	private static final int LIVE_VARBIT_GRACE_TICKS = 5;
+
+	/** Master (Turael, Aya and Spria) whose tasks reset the streak when taken over an unfinished one. */
+	private static final SlayerMaster STREAK_RESET_MASTER = SlayerMaster.TURAEL;
+
+	/** Value cached in {@link #masterByNpcId} for NPC ids that are not slayer masters. */
+	private static final int NOT_A_MASTER = -2;
+
+	/** Enabled, interval and master defaults of the legacy rule1..rule5 config keys. */
+	private static final String[][] LEGACY_RULE_DEFAULTS = {
+		{"true", "10", "DURADEL"},
+		{"true", "50", "KONAR"},
+		{"false", "100", "KONAR"},
+		{"false", "250", "KONAR"},
+		{"false", "1000", "KONAR"},
+	};
+
 	@Inject
 	private Client client;
 
 	@Inject
 	private ClientThread clientThread;
 
+	@Inject
+	private ScheduledExecutorService executor;
+
 	@Inject
 	private SlayerBoostingConfig config;
 
+	@Inject
+	private ConfigManager configManager;
+
 	@Inject
 	private OverlayManager overlayManager;
 
 	@Inject
 	private SlayerBoostingOverlay overlay;
 
+	@Inject
+	private SlayerBoostingDebugOverlay debugOverlay;
+
 	@Inject
 	private NpcOverlayService npcOverlayService;
 
-	private final Function<NPC, HighlightedNpc> npcHighlighter = this::highlightNpc;
+	@Inject
+	private ClientToolbar clientToolbar;
 
-	/** Slayer master NPCs currently in the loaded scene. */
-	private final Set<NPC> trackedMasters = new HashSet<>();
+	private final Function<NPC, HighlightedNpc> npcHighlighter = this::highlightNpc;
 
 	@Getter
-	private int streak;
+	private final PluginMetrics metrics = new PluginMetrics();
+
+	/** Highlight templates for the correct and wrong master roles; null when that role is not highlighted. */
+	private HighlightTemplate correctTemplate;
+	private HighlightTemplate wrongTemplate;
+
+	/** Highlights already built for NPCs in each role, reused until the role or colours change. */
+	private final Map<NPC, HighlightedNpc> correctHighlights = new HashMap<>();
+	private final Map<NPC, HighlightedNpc> wrongHighlights = new HashMap<>();
+
+	/** Slayer master NPCs currently in the loaded scene, with their location when resolved. */
+	private final Map<NPC, WorldPoint> trackedMasters = new HashMap<>();
+
+	/** NPCs spawned since the last game tick, resolved together at the next tick. */
+	private final Set<NPC> pendingSpawns = new LinkedHashSet<>();
+
+	// Work deferred to the next game tick, so a burst of events costs at most
+	// one rule evaluation and one overlay rebuild
+	private boolean varbitsDirty;
+	private boolean rulesDirty;
+	private boolean scheduleDirty;
+	private boolean highlightsDirty;
+	private boolean optimizerDirty;
+	private boolean projectionDirty;
+	private boolean captureDirty;
+	private boolean rebuildPending;
+
+	/**
+	 * Master ordinal (or {@link #NOT_A_MASTER}) per NPC composition id. Each id is resolved
+	 * by name once, after which spawns are classified with a single int lookup.
+	 */
+	private final IntIntMap masterByNpcId = new IntIntMap(-1);
+
+	/** Boosting rules compiled from the config, rebuilt on config change. */
+	private RuleTable ruleTable = RuleTable.EMPTY;
+
+	/** Precomputed milestones for the current rules, or null if the period is too large. */
+	private MilestoneSchedule schedule;
 
+	/** Position of the next task in {@link #schedule}; null when there is no schedule. */
 	@Getter
-	private int points;
+	private MilestoneSchedule.Cursor milestoneCursor;
 
+	/** Points over task ranges for the current rules and default master; null when there is no schedule. */
+	private MilestoneSchedule.Projection projection;
+
+	/** Folder holding one task history file per account. */
+	private File historyDirectory = new File(RuneLite.RUNELITE_DIR, "slayer-boosting");
+
+	/** Folder event captures are recorded to. */
+	private File captureDirectory = new File(historyDirectory, "captures");
+
+	/** Capture being recorded while the hidden record events option is on; null otherwise. */
+	private volatile EventCapture.Writer capture;
+
+	/** History of the logged in account, opened at its first recorded task. */
 	@Getter
-	private int taskCount;
+	private TaskHistory taskHistory;
+
+	/** Last known slayer state per RS profile, restored at login. */
+	private ProfileSnapshots snapshots;
+
+	/** RS profile of the logged in account; null until the client knows it. */
+	private String profileKey;
 
+	/** Whether the slayer varbits have arrived since login, or a snapshot may still be newer. */
+	private boolean liveVarbits;
+
+	/** Whether the current state came from a snapshot and the client has not been read since. */
+	private boolean restoredSnapshot;
+
+	private int ticksSinceLogin;
+	private int ticksSinceSnapshotFlush;
+
+	/** Rules with the most points per cost for the allowed masters; null if none are allowed. */
 	@Getter
-	private boolean milestoneActive;
+	private RuleOptimizer.Solution optimalRules;
 
+	/** Summary of {@link #optimalRules} for display, e.g. "Turael / Aya, 10:KONAR". */
 	@Getter
-	private SlayerMaster milestoneMaster;
+	private String optimalRulesText;
 
+	/** Points per cost of the configured rules, with the optimizer's cost weights. */
 	@Getter
-	private int milestoneTaskNumber;
+	private double currentRate;
+
+	private final SlayerChatMatcher chatMatcher = new SlayerChatMatcher();
+
+	/** Worker for the optimizer and projections; created at startup, shut down with the plugin. */
+	private BackgroundJobs jobs;
+
+	/** Creates the executor {@link #jobs} run on; tests replace it to run jobs inline. */
+	@VisibleForTesting
+	Supplier<ExecutorService> jobExecutor = BackgroundJobs::newWorker;
 
+	private SlayerBoostingPanel panel;
+	private NavigationButton navButton;
+
+	/** State the side panel's timeline was last built from. */
+	private SlayerState panelState;
+	/** Whether the rules or diaries changed since the side panel's timeline was built. */
+	private boolean timelineDirty;
+
+	/** Config values for the hot paths, retaken on every change to the plugin's config group. */
 	@Getter
-	private int milestonePoints;
+	private volatile ConfigSnapshot configSnapshot;
 
+	/**
+	 * Slayer progress and next master, replaced as a whole on the client thread once
+	 * per tick at most. Read it once and use that instance for a consistent view.
+	 */
 	@Getter
-	private SlayerMaster nextMaster;
+	private volatile SlayerState state = SlayerState.EMPTY;
 
+	/** Whether the info overlay should render, decided once per game tick. */
 	@Getter
-	private int nextTaskPoints;
+	private boolean overlayVisible;
 
 	@Provides
 	SlayerBoostingConfig provideConfig(ConfigManager configManager)
@@ -123,22 +266,39 @@ public class SlayerBoostingPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
+		metrics.reset();
+		snapshots = new ProfileSnapshots(configManager);
+		migrateLegacyRules();
+		configSnapshot = ConfigSnapshot.of(config);
+		captureDirty = configSnapshot.isRecordEvents();
+		jobs = new BackgroundJobs(jobExecutor.get(), clientThread::invoke);
+		ruleTable = RuleTable.parse(configSnapshot.getRules());
+		rebuildSchedule();
+		rebuildHighlightTemplates();
+		requestOptimalRules();
+
 		overlayManager.add(overlay);
+		overlayManager.add(debugOverlay);
 		npcOverlayService.registerHighlighter(npcHighlighter);
 
+		panel = new SlayerBoostingPanel();
+		BufferedImage icon = ImageUtil.loadImageResource(getClass(), "panel_icon.png");
+		navButton = NavigationButton.builder()
+			.tooltip("Slayer Boosting")
+			.icon(icon)
+			.priority(8)
+			.panel(panel)
+			.build();
+		clientToolbar.addNavigation(navButton);
+
 		if (client.getGameState() == GameState.LOGGED_IN)
 		{
 			clientThread.invokeLater(() ->
 			{
-				for (NPC npc : client.getNpcs())
-				{
-					if (SlayerMaster.isSlayerMaster(npc.getName()))
-					{
-						trackedMasters.add(npc);
-					}
-				}
-				readVarbits();
-				evaluateRules();
+				pendingSpawns.addAll(client.getNpcs());
+				// Already logged in, so the client has the slayer varbits
+				liveVarbits = true;
+				varbitsDirty = true;
 			});
 		}
 
@@ -149,23 +309,51 @@ public class SlayerBoostingPlugin extends Plugin
 	protected void shutDown() throws Exception
 	{
 		overlayManager.remove(overlay);
+		overlayManager.remove(debugOverlay);
 		npcOverlayService.unregisterHighlighter(npcHighlighter);
-		trackedMasters.clear();
-		resetState();
+		clientToolbar.removeNavigation(navButton);
+		stopCapture();
+		jobs.shutdown();
+		state = state.cleared();
+
+		// The collections below belong to the client thread
+		ProfileSnapshots saved = snapshots;
+		clientThread.invoke(() ->
+		{
+			trackedMasters.clear();
+			clearHighlights();
+			clearPending();
+			closeHistory();
+			saved.flush();
+			resetProfile();
+			resetState();
+		});
+		log.debug("Varbit events accepted: {}, ignored: {}",
+			metrics.getVarbitEventsAccepted().sum(), metrics.getVarbitEventsIgnored().sum());
 		log.info("Slayer Boosting plugin stopped");
 	}
 
 	@Subscribe
 	public void onGameStateChanged(GameStateChanged event)
 	{
+		EventCapture.Writer capture = this.capture;
+		if (capture != null)
+		{
+			capture.gameStateChanged(event.getGameState());
+		}
+
 		if (event.getGameState() == GameState.LOGGED_IN)
 		{
-			readVarbits();
-			evaluateRules();
+			varbitsDirty = true;
 		}
 		else if (event.getGameState() == GameState.LOGIN_SCREEN)
 		{
 			trackedMasters.clear();
+			clearHighlights();
+			clearPending();
+			closeHistory();
+			snapshots.flush();
+			resetProfile();
 			resetState();
 		}
 	}
@@ -173,27 +361,42 @@ public class SlayerBoostingPlugin extends Plugin
 	@Subscribe
 	public void onNpcSpawned(NpcSpawned event)
 	{
-		NPC npc = event.getNpc();
-		if (SlayerMaster.isSlayerMaster(npc.getName()))
+		EventCapture.Writer capture = this.capture;
+		if (capture != null)
 		{
-			trackedMasters.add(npc);
+			capture.npcSpawned(event.getNpc());
 		}
+
+		metrics.getNpcSpawnsSeen().increment();
+		pendingSpawns.add(event.getNpc());
 	}
 
 	@Subscribe
 	public void onNpcDespawned(NpcDespawned event)
 	{
-		trackedMasters.remove(event.getNpc());
+		NPC npc = event.getNpc();
+		EventCapture.Writer capture = this.capture;
+		if (capture != null)
+		{
+			capture.npcDespawned(npc);
+		}
+
+		pendingSpawns.remove(npc);
+		trackedMasters.remove(npc);
+		correctHighlights.remove(npc);
+		wrongHighlights.remove(npc);
 	}
 
 	/**
-	 * Returns true if the local player is within {@code tiles} tiles (Chebyshev distance,
-	 * same plane) of any tracked slayer master NPC.
+	 * Returns true if the local player is within {@code tiles} tiles (Chebyshev distance)
+	 * of a slayer master: either a known master spawn location, regardless of whether
+	 * the NPC is loaded yet, or a tracked master NPC on the same plane at the location
+	 * cached when it was resolved.
 	 */
 	public boolean isPlayerNearSlayerMaster(int tiles)
 	{
 		Player local = client.getLocalPlayer();
-		if (local == null || trackedMasters.isEmpty())
+		if (local == null)
 		{
 			return false;
 		}
@@ -204,9 +407,13 @@ public class SlayerBoostingPlugin extends Plugin
 			return false;
 		}
 
-		for (NPC npc : trackedMasters)
+		if (MasterSpawn.findNear(playerLoc, tiles) != null)
+		{
+			return true;
+		}
+
+		for (WorldPoint npcLoc : trackedMasters.values())
 		{
-			WorldPoint npcLoc = npc.getWorldLocation();
 			if (npcLoc == null || npcLoc.getPlane() != playerLoc.getPlane())
 			{
 				continue;
@@ -221,57 +428,326 @@ public class SlayerBoostingPlugin extends Plugin
 		return false;
 	}
 
+	/**
+	 * Returns true if the local player is in or next to a map region with a slayer
+	 * master spawn, i.e. is approaching one.
+	 */
+	public boolean isPlayerApproachingSlayerMaster()
+	{
+		Player local = client.getLocalPlayer();
+		WorldPoint playerLoc = local != null ? local.getWorldLocation() : null;
+		return playerLoc != null && MasterSpawn.isApproachRegion(playerLoc.getRegionID());
+	}
+
+	/**
+	 * Decide whether the info overlay should render until the next tick, so the
+	 * overlay itself does no config or spatial work per frame.
+	 */
+	private void updateOverlayVisibility()
+	{
+		SlayerState current = state;
+		if (!configSnapshot.isShowOverlay() || current.getNextMaster() == null)
+		{
+			overlayVisible = false;
+			return;
+		}
+
+		switch (configSnapshot.getOverlayMode())
+		{
+			case BETWEEN_TASKS:
+				// Hide while the player has an active task; show when they have none.
+				overlayVisible = current.getTaskCount() <= 0;
+				break;
+			case PROXIMITY:
+				// Away from every master's region with none loaded, one region lookup decides
+				overlayVisible = (isPlayerApproachingSlayerMaster() || !trackedMasters.isEmpty())
+					&& isPlayerNearSlayerMaster(PROXIMITY_TILES);
+				break;
+			case ALWAYS:
+			default:
+				overlayVisible = true;
+				break;
+		}
+	}
+
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event)
 	{
-		if (!"slayerboosting".equals(event.getGroup()))
+		// Profile values are the plugin's own snapshots being saved, not settings
+		if (!SlayerBoostingConfig.GROUP.equals(event.getGroup())
+			|| event.getProfile() != null
+			|| ProfileSnapshots.KEY.equals(event.getKey()))
 		{
 			return;
 		}
 
-		evaluateRules();
-		npcOverlayService.rebuild();
+		configSnapshot = ConfigSnapshot.of(config);
+
+		EventCapture.Writer capture = this.capture;
+		if (capture != null)
+		{
+			capture.configChanged(event.getKey(), event.getNewValue());
+		}
+
+		switch (event.getKey())
+		{
+			case "recordEvents":
+				captureDirty = true;
+				break;
+			case "rules":
+				rulesDirty = true;
+				optimizerDirty = true;
+				break;
+			case "eliteWesternDiary":
+			case "eliteKourendDiary":
+				scheduleDirty = true;
+				optimizerDirty = true;
+				break;
+			case "defaultMaster":
+				projectionDirty = true;
+				optimizerDirty = true;
+				break;
+			case "optimizerMasters":
+			case "showOptimalRate":
+				optimizerDirty = true;
+				break;
+			case "highlightMasters":
+			case "showMasterNames":
+			case "highlightCorrectMaster":
+			case "highlightWrongMasters":
+			case "correctMasterColor":
+			case "wrongMasterColor":
+				highlightsDirty = true;
+				break;
+		}
+
+		rebuildPending = true;
 	}
 
+	/**
+	 * Apply everything collected since the previous tick in one pass: resolve new
+	 * NPC spawns, recompile changed config, read the slayer varbits, then evaluate
+	 * the rules and rebuild the NPC overlay at most once each.
+	 */
 	@Subscribe
-	public void onVarbitChanged(VarbitChanged event)
+	public void onGameTick(GameTick tick)
 	{
-		if (client.getGameState() != GameState.LOGGED_IN)
+		if (captureDirty)
 		{
-			return;
+			captureDirty = false;
+			if (configSnapshot.isRecordEvents())
+			{
+				startCapture();
+			}
+			else
+			{
+				stopCapture();
+			}
+		}
+		EventCapture.Writer capture = this.capture;
+		if (capture != null)
+		{
+			capture.tick();
 		}
 
-		int newStreak = client.getVarbitValue(VarbitID.SLAYER_TASKS_COMPLETED);
-		int newPoints = client.getVarbitValue(VarbitID.SLAYER_POINTS);
-		int newTaskCount = client.getVarpValue(VarPlayerID.SLAYER_COUNT);
+		if (!pendingSpawns.isEmpty())
+		{
+			for (NPC npc : pendingSpawns)
+			{
+				if (resolveMaster(npc) != null)
+				{
+					metrics.getNpcSpawnsMatched().increment();
+					trackedMasters.put(npc, npc.getWorldLocation());
+				}
+			}
+			pendingSpawns.clear();
+		}
 
-		boolean changed = false;
+		boolean reevaluate = rebuildPending;
+		SlayerState current = state;
+		SlayerState next = current;
 
-		if (newStreak != streak)
+		if (profileKey == null && client.getGameState() == GameState.LOGGED_IN)
+		{
+			profileKey = configManager.getRSProfileKey();
+			if (profileKey != null)
+			{
+				next = restoreSnapshot(next);
+			}
+		}
+		if (!liveVarbits && ++ticksSinceLogin > LIVE_VARBIT_GRACE_TICKS)
 		{
-			log.debug("Slayer streak changed: {} -> {}", streak, newStreak);
-			streak = newStreak;
-			changed = true;
+			// Nothing arrived, so the client's values are all there is
+			liveVarbits = true;
+			varbitsDirty = true;
 		}
 
-		if (newPoints != points)
+		if (rulesDirty)
 		{
-			log.debug("Slayer points changed: {} -> {}", points, newPoints);
-			points = newPoints;
+			ruleTable = RuleTable.parse(configSnapshot.getRules());
+			scheduleDirty = true;
+			rulesDirty = false;
+		}
+		if (scheduleDirty)
+		{
+			rebuildSchedule();
+			scheduleDirty = false;
+		}
+		if (highlightsDirty)
+		{
+			rebuildHighlightTemplates();
+			highlightsDirty = false;
+		}
+		if (projectionDirty)
+		{
+			requestProjection();
+			projectionDirty = false;
+		}
+		if (optimizerDirty)
+		{
+			requestOptimalRules();
+			optimizerDirty = false;
+		}
+
+		// A restored snapshot beats the client's zeroes until the varbits arrive
+		boolean read = false;
+		if (varbitsDirty && (liveVarbits || !restoredSnapshot))
+		{
+			varbitsDirty = false;
+			read = true;
+			next = readVarbits(next);
+			if (liveVarbits && profileKey != null)
+			{
+				snapshots.update(profileKey, next.getStreak(), next.getPoints(), next.getTaskCount());
+			}
 		}
 
-		if (newTaskCount != taskCount)
+		// The first read after login always needs an evaluation, even from a zero streak
+		if (next.getStreak() != current.getStreak()
+			|| next.getTaskCount() != current.getTaskCount()
+			|| next.getNextMaster() == null && (read || next != current))
 		{
-			log.debug("Slayer task count changed: {} -> {}", taskCount, newTaskCount);
-			taskCount = newTaskCount;
-			changed = true;
+			reevaluate = true;
+			rebuildPending = true;
 		}
 
-		if (changed)
+		if (++ticksSinceSnapshotFlush >= SNAPSHOT_FLUSH_TICKS)
 		{
-			evaluateRules();
+			ticksSinceSnapshotFlush = 0;
+			snapshots.flush();
+		}
+
+		if (reevaluate)
+		{
+			next = evaluateRules(next);
+		}
+		if (next != current)
+		{
+			state = next;
+		}
+
+		if (rebuildPending)
+		{
+			rebuildPending = false;
+			metrics.getOverlayRebuilds().increment();
 			npcOverlayService.rebuild();
 		}
+
+		updateOverlayVisibility();
+
+		if (state != panelState || timelineDirty)
+		{
+			updatePanel();
+		}
+	}
+
+	/**
+	 * Apply task assignments and completions from game messages straight away; the
+	 * varbits confirm them when they arrive.
+	 */
+	@Subscribe
+	public void onChatMessage(ChatMessage event)
+	{
+		if (event.getType() != ChatMessageType.GAMEMESSAGE && event.getType() != ChatMessageType.SPAM)
+		{
+			return;
+		}
+		if (!chatMatcher.match(event.getMessage()))
+		{
+			return;
+		}
+
+		// Only slayer messages are recorded, never player chat
+		EventCapture.Writer capture = this.capture;
+		if (capture != null)
+		{
+			capture.chatMessage(event.getType(), event.getMessage());
+		}
+
+		SlayerState current = state;
+		SlayerState next;
+		if (chatMatcher.getEvent() == SlayerChatMatcher.Event.COMPLETED)
+		{
+			int newStreak = chatMatcher.getStreak();
+			int newPoints = chatMatcher.getPoints() >= 0 ? chatMatcher.getPoints() : current.getPoints();
+			if (current.getNextMaster() != null && newStreak == current.getStreak() + 1)
+			{
+				int awarded = chatMatcher.getPointsAwarded() >= 0
+					? chatMatcher.getPointsAwarded()
+					: newPoints - current.getPoints();
+				recordCompletion(newStreak, awarded, current.getNextMaster());
+			}
+			next = current.withCounters(newStreak, newPoints, 0);
+		}
+		else
+		{
+			// A task from Turael, Aya or Spria over an unfinished task resets the streak
+			int newStreak = chatMatcher.getMaster() == STREAK_RESET_MASTER && current.getTaskCount() > 0
+				? 0
+				: current.getStreak();
+			int newTaskCount = chatMatcher.getAmount() >= 0 ? chatMatcher.getAmount() : current.getTaskCount();
+			next = current.withCounters(newStreak, current.getPoints(), newTaskCount);
+		}
+
+		log.debug("Slayer {} message: streak {} -> {}", chatMatcher.getEvent(), current.getStreak(), next.getStreak());
+		state = evaluateRules(next);
+		rebuildPending = true;
+	}
+
+	@Subscribe
+	public void onVarbitChanged(VarbitChanged event)
+	{
+		long start = System.nanoTime();
+		EventCapture.Writer capture = this.capture;
+		if (capture != null)
+		{
+			capture.varbitChanged(event.getVarbitId(), event.getVarpId(), event.getValue());
+		}
+		handleVarbitChanged(event);
+		metrics.record(PluginMetrics.Timer.VARBIT_CHANGED, start);
+	}
+
+	private void handleVarbitChanged(VarbitChanged event)
+	{
+		// Almost every varbit change in the game is unrelated; reject those before touching the client
+		int varbitId = event.getVarbitId();
+		if (varbitId != VarbitID.SLAYER_TASKS_COMPLETED
+			&& varbitId != VarbitID.SLAYER_POINTS
+			&& event.getVarpId() != VarPlayerID.SLAYER_COUNT)
+		{
+			metrics.getVarbitEventsIgnored().increment();
+			return;
+		}
+
+		metrics.getVarbitEventsAccepted().increment();
+		liveVarbits = true;
+
+		if (client.getGameState() != GameState.LOGGED_IN)
+		{
+			return;
+		}
+
+		varbitsDirty = true;
 	}
 
 	/**
@@ -279,175 +755,552 @@ public class SlayerBoostingPlugin extends Plugin
 	 * When a milestone is active: highlights the milestone master in green and wrong masters in red.
 	 * When no milestone is active: highlights the default master in green and wrong masters in red.
 	 */
-	private HighlightedNpc highlightNpc(NPC npc)
+	@VisibleForTesting
+	HighlightedNpc highlightNpc(NPC npc)
+	{
+		long start = System.nanoTime();
+		HighlightedNpc highlight = resolveHighlight(npc);
+		metrics.record(PluginMetrics.Timer.HIGHLIGHT_NPC, start);
+		return highlight;
+	}
+
+	private HighlightedNpc resolveHighlight(NPC npc)
 	{
-		if (npc.getName() == null)
+		if (correctTemplate == null && wrongTemplate == null)
 		{
 			return null;
 		}
 
-		if (!config.highlightMasters())
+		SlayerMaster master = resolveMaster(npc);
+		if (master == null)
 		{
 			return null;
 		}
 
-		SlayerMaster master = SlayerMaster.fromNpcName(npc.getName());
-		if (master == null)
+		// Determine who the player should visit right now
+		SlayerState current = state;
+		SlayerMaster targetMaster = current.isMilestoneActive()
+			? current.getMilestoneMaster()
+			: configSnapshot.getDefaultMaster();
+
+		boolean correct = master == targetMaster;
+		HighlightTemplate template = correct ? correctTemplate : wrongTemplate;
+		if (template == null)
 		{
 			return null;
 		}
 
-		// Determine who the player should visit right now
-		SlayerMaster targetMaster = milestoneActive ? milestoneMaster : config.defaultMaster();
+		// Reuse the highlight built for this NPC while its role is unchanged
+		Map<NPC, HighlightedNpc> cache = correct ? correctHighlights : wrongHighlights;
+		HighlightedNpc highlight = cache.get(npc);
+		if (highlight == null)
+		{
+			highlight = template.build(npc);
+			cache.put(npc, highlight);
+			(correct ? wrongHighlights : correctHighlights).remove(npc);
+		}
+		return highlight;
+	}
 
-		boolean showName = config.showMasterNames();
+	/**
+	 * Rebuild the correct and wrong master highlight templates from the config and
+	 * drop any highlights built from the previous ones.
+	 */
+	private void rebuildHighlightTemplates()
+	{
+		boolean enabled = configSnapshot.isHighlightMasters();
+		boolean showName = configSnapshot.isShowMasterNames();
+		correctTemplate = enabled && configSnapshot.isHighlightCorrectMaster()
+			? new HighlightTemplate(configSnapshot.getCorrectMasterColor(), showName) : null;
+		wrongTemplate = enabled && configSnapshot.isHighlightWrongMasters()
+			? new HighlightTemplate(configSnapshot.getWrongMasterColor(), showName) : null;
+		clearHighlights();
+	}
+
+	private void clearHighlights()
+	{
+		correctHighlights.clear();
+		wrongHighlights.clear();
+	}
 
-		if (master == targetMaster && config.highlightCorrectMaster())
+	/**
+	 * Resolve the slayer master an NPC represents. The first NPC seen with a given
+	 * composition id is looked up by name; the result is cached by id so later
+	 * spawns of the same id, including every non-master, skip all string work.
+	 */
+	private SlayerMaster resolveMaster(NPC npc)
+	{
+		int id = npc.getId();
+		int cached = masterByNpcId.get(id);
+		if (cached == NOT_A_MASTER)
 		{
-			Color color = config.correctMasterColor();
-			return HighlightedNpc.builder()
-				.npc(npc)
-				.highlightColor(color)
-				.fillColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 30))
-				.hull(true)
-				.name(showName)
-				.nameOnMinimap(showName)
-				.borderWidth(2.0f)
-				.render(n -> true)
-				.build();
+			return null;
 		}
-		else if (master != targetMaster && config.highlightWrongMasters())
+		if (cached >= 0)
 		{
-			Color color = config.wrongMasterColor();
-			return HighlightedNpc.builder()
-				.npc(npc)
-				.highlightColor(color)
-				.fillColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 30))
-				.hull(true)
-				.name(showName)
-				.nameOnMinimap(showName)
-				.borderWidth(2.0f)
-				.render(n -> true)
-				.build();
+			return SlayerMaster.fromOrdinal(cached);
+		}
+
+		String name = npc.getName();
+		if (name == null)
+		{
+			// Not resolvable yet, don't cache
+			return null;
 		}
 
-		return null;
+		SlayerMaster master = SlayerMaster.fromNpcName(name);
+		masterByNpcId.put(id, master != null ? master.ordinal() : NOT_A_MASTER);
+		return master;
 	}
 
 	/**
-	 * Read the initial varbit values from the client.
+	 * Read the slayer varbits from the client.
+	 *
+	 * @return the state with the client's values, or {@code current} if none changed
 	 */
-	private void readVarbits()
+	private SlayerState readVarbits(SlayerState current)
 	{
-		streak = client.getVarbitValue(VarbitID.SLAYER_TASKS_COMPLETED);
-		points = client.getVarbitValue(VarbitID.SLAYER_POINTS);
-		taskCount = client.getVarpValue(VarPlayerID.SLAYER_COUNT);
-		log.debug("Read varbits: streak={}, points={}, taskCount={}", streak, points, taskCount);
+		// A restored snapshot may be any number of tasks old, so the first read after
+		// one is not compared against it for a completion
+		boolean afterRestore = restoredSnapshot;
+		restoredSnapshot = false;
+
+		int newStreak = client.getVarbitValue(VarbitID.SLAYER_TASKS_COMPLETED);
+		int newPoints = client.getVarbitValue(VarbitID.SLAYER_POINTS);
+		int newTaskCount = client.getVarpValue(VarPlayerID.SLAYER_COUNT);
+
+		if (newStreak == current.getStreak() && newPoints == current.getPoints() && newTaskCount == current.getTaskCount())
+		{
+			return current;
+		}
+
+		log.debug("Slayer varbits changed: streak {} -> {}, points {} -> {}, task count {} -> {}",
+			current.getStreak(), newStreak, current.getPoints(), newPoints, current.getTaskCount(), newTaskCount);
+
+		// A streak one higher than a previous read is a completed task
+		if (!afterRestore && current.getNextMaster() != null && newStreak == current.getStreak() + 1)
+		{
+			recordCompletion(newStreak, newPoints - current.getPoints(), current.getNextMaster());
+		}
+
+		return current.withCounters(newStreak, newPoints, newTaskCount);
 	}
 
 	/**
-	 * Evaluate all enabled rules against the current streak to determine
-	 * if the next task is a milestone.
-	 *
-	 * <p>The highest-interval matching rule wins when multiple rules match.</p>
+	 * Append the task just completed to the account's history. The master is the
+	 * recommended one if its points match the delta, otherwise the first master whose
+	 * points for the tier do.
 	 */
-	private void evaluateRules()
+	private void recordCompletion(int streak, int pointsDelta, SlayerMaster recommended)
 	{
-		int nextTask = streak + 1;
+		if (!configSnapshot.isRecordHistory())
+		{
+			closeHistory();
+			return;
+		}
 
-		// Collect all enabled rules
-		List<BoostingRule> rules = getEnabledRules();
+		if (taskHistory == null)
+		{
+			long accountHash = client.getAccountHash();
+			if (accountHash == -1)
+			{
+				return;
+			}
+			taskHistory = new TaskHistory(new File(historyDirectory, accountHash + ".dat").toPath(), executor);
+		}
 
-		// Sort by interval descending so the highest-priority rule wins
-		rules.sort(Comparator.comparingInt(BoostingRule::getInterval).reversed());
+		int tier = SlayerMaster.getTier(streak);
+		int variant = configSnapshot.getDiaryVariant();
+		SlayerMaster master = null;
+		if (recommended.getPointsForTier(tier, variant) == pointsDelta)
+		{
+			master = recommended;
+		}
+		else
+		{
+			for (SlayerMaster candidate : SlayerMaster.values())
+			{
+				if (candidate.getPointsForTier(tier, variant) == pointsDelta)
+				{
+					master = candidate;
+					break;
+				}
+			}
+		}
+
+		taskHistory.append(System.currentTimeMillis(), streak, pointsDelta, master, tier);
+	}
+
+	private void closeHistory()
+	{
+		if (taskHistory != null)
+		{
+			taskHistory.close();
+			taskHistory = null;
+		}
+	}
+
+	/**
+	 * Start recording events to a new capture file. The capture opens with what the
+	 * plugin would otherwise have learnt before recording began: the game state, the
+	 * plugin's config other than its file-writing settings, the slayer varbits and the
+	 * NPCs in the scene.
+	 */
+	private void startCapture()
+	{
+		if (capture != null)
+		{
+			return;
+		}
 
-		for (BoostingRule rule : rules)
+		String name = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").format(LocalDateTime.now()) + ".sbc";
+		EventCapture.Writer writer = new EventCapture.Writer(new File(captureDirectory, name).toPath(), executor,
+			System.currentTimeMillis());
+
+		writer.gameStateChanged(client.getGameState());
+		for (Method method : SlayerBoostingConfig.class.getMethods())
 		{
-			if (rule.getInterval() > 0 && nextTask % rule.getInterval() == 0)
+			ConfigItem item = method.getAnnotation(ConfigItem.class);
+			// Settings that write files are left out, so a replay never turns them on
+			if (item == null || item.keyName().equals("recordEvents") || item.keyName().equals("recordHistory"))
+			{
+				continue;
+			}
+			String value = configManager.getConfiguration(SlayerBoostingConfig.GROUP, item.keyName());
+			if (value != null)
 			{
-				milestoneActive = true;
-				milestoneMaster = rule.getMaster();
-				milestoneTaskNumber = nextTask;
-				milestonePoints = rule.getMaster().getPointsForTask(nextTask,
-					config.eliteWesternDiary(), config.eliteKourendDiary());
+				writer.configChanged(item.keyName(), value);
+			}
+		}
+		writer.varbitChanged(VarbitID.SLAYER_TASKS_COMPLETED, -1, client.getVarbitValue(VarbitID.SLAYER_TASKS_COMPLETED));
+		writer.varbitChanged(VarbitID.SLAYER_POINTS, -1, client.getVarbitValue(VarbitID.SLAYER_POINTS));
+		writer.varbitChanged(-1, VarPlayerID.SLAYER_COUNT, client.getVarpValue(VarPlayerID.SLAYER_COUNT));
+		for (NPC npc : client.getNpcs())
+		{
+			writer.npcSpawned(npc);
+		}
+
+		capture = writer;
+		log.info("Recording slayer boosting events to {}", writer.getFile());
+	}
 
-				nextMaster = milestoneMaster;
-				nextTaskPoints = milestonePoints;
+	private void stopCapture()
+	{
+		EventCapture.Writer writer = capture;
+		if (writer != null)
+		{
+			capture = null;
+			writer.close();
+			log.info("Stopped recording slayer boosting events to {}", writer.getFile());
+		}
+	}
 
-				log.debug("Milestone active! Next task #{} -> use {} ({} pts)",
-					nextTask, milestoneMaster.getDisplayName(), milestonePoints);
-				return;
+	/**
+	 * Evaluate the compiled rules against the current streak to determine
+	 * if the next task is a milestone.
+	 *
+	 * <p>The first matching rule of the table wins when multiple rules match.</p>
+	 */
+	@VisibleForTesting
+	SlayerState evaluateRules(SlayerState current)
+	{
+		long start = System.nanoTime();
+		SlayerState evaluated = applyRules(current);
+		metrics.record(PluginMetrics.Timer.EVALUATE_RULES, start);
+		return evaluated;
+	}
+
+	private SlayerState applyRules(SlayerState current)
+	{
+		int nextTask = current.getNextTask();
+
+		SlayerMaster ruleMaster = null;
+		int rulePoints = 0;
+		if (milestoneCursor != null)
+		{
+			milestoneCursor.moveTo(nextTask);
+			if (milestoneCursor.isMilestone())
+			{
+				ruleMaster = milestoneCursor.getMilestoneMaster(0);
+				rulePoints = milestoneCursor.getMilestonePoints(0);
+			}
+		}
+		else
+		{
+			int rule = ruleTable.match(nextTask);
+			if (rule >= 0)
+			{
+				ruleMaster = ruleTable.getMaster(rule);
+				rulePoints = ruleMaster.getPointsForTier(SlayerMaster.getTier(nextTask),
+					configSnapshot.getDiaryVariant());
 			}
 		}
 
+		if (ruleMaster != null)
+		{
+			log.debug("Milestone active! Next task #{} -> use {} ({} pts)",
+				nextTask, ruleMaster.getDisplayName(), rulePoints);
+			return current.withMilestone(ruleMaster, rulePoints);
+		}
+
 		// No rule matches — use default master
-		milestoneActive = false;
-		milestoneMaster = null;
-		milestoneTaskNumber = 0;
-		milestonePoints = 0;
+		SlayerMaster defaultMaster = configSnapshot.getDefaultMaster();
+		return current.withDefault(defaultMaster,
+			defaultMaster.getPointsForTier(SlayerMaster.getTier(nextTask), configSnapshot.getDiaryVariant()));
+	}
 
-		nextMaster = config.defaultMaster();
-		nextTaskPoints = nextMaster.getPointsForTask(nextTask,
-			config.eliteWesternDiary(), config.eliteKourendDiary());
+	/**
+	 * Rebuild the milestone schedule after the rules or diary flags change.
+	 * Large rule periods fall back to scanning the rule table in {@link #evaluateRules(SlayerState)}.
+	 */
+	private void rebuildSchedule()
+	{
+		schedule = MilestoneSchedule.build(ruleTable, configSnapshot.isEliteWesternDiary(), configSnapshot.isEliteKourendDiary());
+		if (schedule == null)
+		{
+			log.debug("Milestone period of rules exceeds {}, matching rules instead", MilestoneSchedule.MAX_PERIOD);
+			milestoneCursor = null;
+		}
+		else
+		{
+			milestoneCursor = schedule.cursor(state.getNextTask());
+		}
+		requestProjection();
+		timelineDirty = true;
+	}
+
+	/**
+	 * Hand the side panel the tasks to list, from the next task on. The panel works
+	 * out each row itself as it is painted.
+	 */
+	private void updatePanel()
+	{
+		SlayerState current = state;
+		panelState = current;
+		timelineDirty = false;
+		panel.setTimeline(current.getNextMaster() == null ? null : new SlayerBoostingPanel.Timeline(
+			current.getNextTask(), ruleTable, configSnapshot.getDefaultMaster(),
+			configSnapshot.isEliteWesternDiary(), configSnapshot.isEliteKourendDiary()));
 	}
 
 	/**
-	 * Collect enabled rules from the config into a list.
+	 * Build the points projection for the current schedule and default master in the
+	 * background. The previous projection stays in use until the new one arrives.
 	 */
-	private List<BoostingRule> getEnabledRules()
+	private void requestProjection()
 	{
-		List<BoostingRule> rules = new ArrayList<>();
+		jobs.submit("projection", new ProjectionInput(schedule, configSnapshot.getDefaultMaster()),
+			input -> input.getSchedule() != null ? input.getSchedule().projection(input.getDefaultMaster()) : null,
+			result -> projection = result);
+	}
 
-		if (config.rule1Enabled())
+	/**
+	 * Points earned from the next task up to and including {@code targetTask} under the
+	 * current rules, or -1 if the rules' period is too large to project.
+	 */
+	public long getProjectedPoints(long targetTask)
+	{
+		if (projection == null)
 		{
-			rules.add(new BoostingRule(config.rule1Interval(), config.rule1Master()));
+			return -1;
 		}
-		if (config.rule2Enabled())
+		return projection.getPoints(state.getStreak() + 1L, targetTask);
+	}
+
+	/**
+	 * Re-solve the optimal rules for the allowed masters and diary flags, and rate
+	 * the configured rules with the same cost weights, in the background. Nothing
+	 * shows the result while the optimal rate is hidden, so it is not solved then.
+	 */
+	private void requestOptimalRules()
+	{
+		if (!configSnapshot.isShowOptimalRate())
 		{
-			rules.add(new BoostingRule(config.rule2Interval(), config.rule2Master()));
+			return;
 		}
-		if (config.rule3Enabled())
+
+		OptimizerInput input = new OptimizerInput(configSnapshot.getOptimizerMasters(), ruleTable,
+			configSnapshot.getDefaultMaster(), configSnapshot.getDiaryVariant());
+		jobs.submit("optimizer", input, SlayerBoostingPlugin::solveOptimalRules, result ->
+		{
+			optimalRules = result.getSolution();
+			optimalRulesText = result.getText();
+			currentRate = result.getCurrentRate();
+		});
+	}
+
+	private static OptimizerResult solveOptimalRules(OptimizerInput input)
+	{
+		double[] costs = RuleOptimizer.parseCosts(input.getOptimizerMasters());
+		RuleOptimizer.Solution solution = RuleOptimizer.solve(costs, input.getDiaryVariant());
+		double currentRate = RuleOptimizer.rate(input.getRules(), input.getDefaultMaster(), costs, input.getDiaryVariant());
+
+		if (solution == null)
 		{
-			rules.add(new BoostingRule(config.rule3Interval(), config.rule3Master()));
+			return new OptimizerResult(null, null, currentRate);
 		}
-		if (config.rule4Enabled())
+
+		StringBuilder text = new StringBuilder(solution.getDefaultMaster().getDisplayName());
+		RuleTable rules = solution.getRules();
+		for (int i = rules.size() - 1; i >= 0; i--)
 		{
-			rules.add(new BoostingRule(config.rule4Interval(), config.rule4Master()));
+			text.append(", ").append(rules.getRuleText(i));
 		}
-		if (config.rule5Enabled())
+		log.debug("Optimal rules: {} ({} pts/cost, current {})", text, solution.getRate(), currentRate);
+		return new OptimizerResult(solution, text.toString(), currentRate);
+	}
+
+	/**
+	 * Convert the fixed rule1..rule5 config keys used by earlier versions into the
+	 * serialized rule list, then remove them. Unset legacy keys fall back to the
+	 * defaults those versions shipped with.
+	 */
+	private void migrateLegacyRules()
+	{
+		if (configManager.getConfiguration(SlayerBoostingConfig.GROUP, "rules") != null)
 		{
-			rules.add(new BoostingRule(config.rule5Interval(), config.rule5Master()));
+			return;
 		}
 
-		return rules;
+		boolean found = false;
+		StringBuilder spec = new StringBuilder();
+		for (int i = 0; i < LEGACY_RULE_DEFAULTS.length; i++)
+		{
+			String prefix = "rule" + (i + 1);
+			String enabled = configManager.getConfiguration(SlayerBoostingConfig.GROUP, prefix + "Enabled");
+			String interval = configManager.getConfiguration(SlayerBoostingConfig.GROUP, prefix + "Interval");
+			String master = configManager.getConfiguration(SlayerBoostingConfig.GROUP, prefix + "Master");
+			found |= enabled != null || interval != null || master != null;
+
+			String[] defaults = LEGACY_RULE_DEFAULTS[i];
+			if (!Boolean.parseBoolean(enabled != null ? enabled : defaults[0]))
+			{
+				continue;
+			}
+
+			if (spec.length() > 0)
+			{
+				spec.append('\n');
+			}
+			spec.append(interval != null ? interval : defaults[1])
+				.append(':')
+				.append(master != null ? master : defaults[2]);
+		}
+
+		if (!found)
+		{
+			return;
+		}
+
+		log.debug("Migrating legacy slayer boosting rules: {}", spec);
+		configManager.setConfiguration(SlayerBoostingConfig.GROUP, "rules", spec.toString());
+		for (int i = 1; i <= LEGACY_RULE_DEFAULTS.length; i++)
+		{
+			configManager.unsetConfiguration(SlayerBoostingConfig.GROUP, "rule" + i + "Enabled");
+			configManager.unsetConfiguration(SlayerBoostingConfig.GROUP, "rule" + i + "Interval");
+			configManager.unsetConfiguration(SlayerBoostingConfig.GROUP, "rule" + i + "Master");
+		}
+	}
+
+	private void clearPending()
+	{
+		pendingSpawns.clear();
+		varbitsDirty = false;
+		rebuildPending = false;
+	}
+
+	/**
+	 * Restore the last known state of the logged in profile, unless the client's
+	 * varbits have already been read.
+	 *
+	 * @return the restored state, or {@code current} if there is no snapshot to restore
+	 */
+	private SlayerState restoreSnapshot(SlayerState current)
+	{
+		ProfileSnapshots.Snapshot snapshot = snapshots.get(profileKey);
+		if (snapshot == null || liveVarbits)
+		{
+			return current;
+		}
+
+		log.debug("Restoring slayer snapshot of {}: {}", profileKey, snapshot);
+		restoredSnapshot = true;
+		return current.withCounters(snapshot.getStreak(), snapshot.getPoints(), snapshot.getTaskCount());
+	}
+
+	/**
+	 * Forget the logged in profile, keeping its snapshot for the next login.
+	 */
+	private void resetProfile()
+	{
+		profileKey = null;
+		liveVarbits = false;
+		restoredSnapshot = false;
+		ticksSinceLogin = 0;
 	}
 
 	private void resetState()
 	{
-		streak = 0;
-		points = 0;
-		taskCount = 0;
-		milestoneActive = false;
-		milestoneMaster = null;
-		milestoneTaskNumber = 0;
-		milestonePoints = 0;
-		nextMaster = null;
-		nextTaskPoints = 0;
+		state = state.cleared();
+		overlayVisible = false;
+		updatePanel();
+	}
+
+	@Value
+	private static class ProjectionInput
+	{
+		MilestoneSchedule schedule;
+		SlayerMaster defaultMaster;
+	}
+
+	@Value
+	private static class OptimizerInput
+	{
+		String optimizerMasters;
+		RuleTable rules;
+		SlayerMaster defaultMaster;
+		int diaryVariant;
+	}
+
+	@Value
+	private static class OptimizerResult
+	{
+		RuleOptimizer.Solution solution;
+		String text;
+		double currentRate;
 	}
 
 	/**
-	 * Simple data holder for an enabled boosting rule.
+	 * Prebuilt highlight settings for one master role. Only the NPC differs between
+	 * the highlights built from a template.
 	 */
-	@Getter
-	private static class BoostingRule
+	private static class HighlightTemplate
 	{
-		private final int interval;
-		private final SlayerMaster master;
+		private static final Predicate<NPC> ALWAYS_RENDER = n -> true;
 
-		BoostingRule(int interval, SlayerMaster master)
+		private final Color color;
+		private final Color fillColor;
+		private final boolean showName;
+
+		HighlightTemplate(Color color, boolean showName)
+		{
+			this.color = color;
+			this.fillColor = new Color(color.getRed(), color.getGreen(), color.getBlue(), 30);
+			this.showName = showName;
+		}
+
+		HighlightedNpc build(NPC npc)
 		{
-			this.interval = interval;
-			this.master = master;
+			return HighlightedNpc.builder()
+				.npc(npc)
+				.highlightColor(color)
+				.fillColor(fillColor)
+				.hull(true)
+				.name(showName)
+				.nameOnMinimap(showName)
+				.borderWidth(2.0f)
+				.render(ALWAYS_RENDER)
+				.build();
 		}
 	}
 }
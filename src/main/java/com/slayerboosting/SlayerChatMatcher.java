@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Recognises slayer task assignment and completion game messages.
+ *
+ * <p>All phrases are compiled into one Aho-Corasick automaton with its failure links
+ * folded into a dense transition table, so a message is scanned once, one table
+ * lookup per character, whatever the number of phrases. Colour tags are skipped
+ * during the scan and numbers are parsed from the characters in place, so matching
+ * allocates nothing. Results are left in this object until the next call; one
+ * instance is used from the client thread only.</p>
+ */
+public final class SlayerChatMatcher
+{
+	public enum Event
+	{
+		NONE,
+		/** A new task; {@link #getAmount()} and {@link #getMaster()} may be known. */
+		ASSIGNED,
+		/** A completed task; {@link #getStreak()} is known, the points may be. */
+		COMPLETED,
+	}
+
+	private static final int COMPLETED = 0;
+	private static final int RECEIVED = 1;
+	private static final int TOTAL = 2;
+	private static final int MAXIMUM = 3;
+	private static final int ASSIGNED = 4;
+	private static final int ASSIGNED_FROM = 5;
+	private static final int AMOUNT = 6;
+
+	/** Phrases by id above, lowercase; the value of each follows its last character. */
+	private static final String[] PHRASES = {
+		"you've completed ",
+		" and received ",
+		"giving you a total of ",
+		"maximum amount of slayer points (",
+		"you're assigned to kill ",
+		"new slayer assignment from ",
+		"; only ",
+	};
+
+	private static final String AT_LEAST = "at least ";
+	private static final int ALPHABET = 128;
+	private static final SlayerMaster[] MASTERS = SlayerMaster.values();
+
+	/** Next state by [state * ALPHABET + char], failure links already applied. */
+	private static final int[] TRANSITIONS;
+	/** Bit set of the phrases ending in each state, including through failure links. */
+	private static final int[] OUTPUTS;
+
+	static
+	{
+		int maxStates = 1;
+		for (String phrase : PHRASES)
+		{
+			maxStates += phrase.length();
+		}
+
+		int[] transitions = new int[maxStates * ALPHABET];
+		Arrays.fill(transitions, -1);
+		int[] outputs = new int[maxStates];
+		int states = 1;
+
+		for (int id = 0; id < PHRASES.length; id++)
+		{
+			int state = 0;
+			for (char c : PHRASES[id].toCharArray())
+			{
+				int slot = state * ALPHABET + c;
+				if (transitions[slot] < 0)
+				{
+					transitions[slot] = states++;
+				}
+				state = transitions[slot];
+			}
+			outputs[state] |= 1 << id;
+		}
+
+		// Breadth-first so each state's failure target is complete before it is used
+		int[] fail = new int[states];
+		ArrayDeque<Integer> queue = new ArrayDeque<>();
+		for (int c = 0; c < ALPHABET; c++)
+		{
+			int next = transitions[c];
+			if (next < 0)
+			{
+				transitions[c] = 0;
+			}
+			else
+			{
+				fail[next] = 0;
+				queue.add(next);
+			}
+		}
+		while (!queue.isEmpty())
+		{
+			int state = queue.poll();
+			outputs[state] |= outputs[fail[state]];
+			for (int c = 0; c < ALPHABET; c++)
+			{
+				int slot = state * ALPHABET + c;
+				int next = transitions[slot];
+				if (next < 0)
+				{
+					transitions[slot] = transitions[fail[state] * ALPHABET + c];
+				}
+				else
+				{
+					fail[next] = transitions[fail[state] * ALPHABET + c];
+					queue.add(next);
+				}
+			}
+		}
+
+		TRANSITIONS = Arrays.copyOf(transitions, states * ALPHABET);
+		OUTPUTS = Arrays.copyOf(outputs, states);
+	}
+
+	private Event event = Event.NONE;
+	private int streak;
+	private int points;
+	private int pointsAwarded;
+	private int amount;
+	private SlayerMaster master;
+
+	/**
+	 * Match a game message.
+	 *
+	 * @return true if it is a slayer assignment or completion message
+	 */
+	public boolean match(String message)
+	{
+		event = Event.NONE;
+		streak = -1;
+		points = -1;
+		pointsAwarded = -1;
+		amount = -1;
+		master = null;
+
+		int state = 0;
+		int length = message.length();
+		for (int i = 0; i < length; i++)
+		{
+			char c = message.charAt(i);
+			if (c == '\u00A0')
+			{
+				// The client uses non-breaking spaces in some messages
+				c = ' ';
+			}
+			else if (c == '<')
+			{
+				// Colour and other tags are invisible to the phrases
+				int close = message.indexOf('>', i);
+				if (close < 0)
+				{
+					break;
+				}
+				i = close;
+				continue;
+			}
+
+			state = c < ALPHABET ? TRANSITIONS[state * ALPHABET + Character.toLowerCase(c)] : 0;
+			int output = OUTPUTS[state];
+			if (output != 0)
+			{
+				onPhrase(output, message, i + 1);
+			}
+		}
+
+		if (event == Event.COMPLETED && streak < 0)
+		{
+			event = Event.NONE;
+		}
+		return event != Event.NONE;
+	}
+
+	private void onPhrase(int output, String message, int valueStart)
+	{
+		if ((output & 1 << COMPLETED) != 0)
+		{
+			int start = skipTags(message, valueStart);
+			if (message.regionMatches(true, start, AT_LEAST, 0, AT_LEAST.length()))
+			{
+				start += AT_LEAST.length();
+			}
+			streak = parseNumber(message, start);
+			event = Event.COMPLETED;
+		}
+		else if ((output & 1 << RECEIVED) != 0)
+		{
+			pointsAwarded = parseNumber(message, valueStart);
+		}
+		else if ((output & (1 << TOTAL | 1 << MAXIMUM)) != 0)
+		{
+			points = parseNumber(message, valueStart);
+		}
+		else if ((output & 1 << ASSIGNED) != 0)
+		{
+			event = Event.ASSIGNED;
+		}
+		else if ((output & 1 << ASSIGNED_FROM) != 0)
+		{
+			master = parseMaster(message, skipTags(message, valueStart));
+			event = Event.ASSIGNED;
+		}
+		else if ((output & 1 << AMOUNT) != 0)
+		{
+			amount = parseNumber(message, valueStart);
+		}
+	}
+
+	/**
+	 * Parse a non-negative number with optional thousands separators, skipping tags
+	 * before and within it.
+	 *
+	 * @return the number, or -1 if there are no digits at {@code start}
+	 */
+	private static int parseNumber(String message, int start)
+	{
+		long value = 0;
+		int digits = 0;
+		int i = skipTags(message, start);
+		int length = message.length();
+		while (i < length)
+		{
+			char c = message.charAt(i);
+			if (c >= '0' && c <= '9')
+			{
+				value = value * 10 + (c - '0');
+				if (value > Integer.MAX_VALUE)
+				{
+					return -1;
+				}
+				digits++;
+			}
+			else if (c == ',' && digits > 0)
+			{
+				// Thousands separator
+			}
+			else if (c == '<')
+			{
+				int close = message.indexOf('>', i);
+				if (close < 0)
+				{
+					break;
+				}
+				i = close;
+			}
+			else
+			{
+				break;
+			}
+			i++;
+		}
+		return digits > 0 ? (int) value : -1;
+	}
+
+	private static int skipTags(String message, int start)
+	{
+		int i = start;
+		while (i < message.length() && message.charAt(i) == '<')
+		{
+			int close = message.indexOf('>', i);
+			if (close < 0)
+			{
+				return message.length();
+			}
+			i = close + 1;
+		}
+		return i;
+	}
+
+	/**
+	 * Master whose NPC name starts at {@code start} and is followed by a colon.
+	 */
+	private static SlayerMaster parseMaster(String message, int start)
+	{
+		for (SlayerMaster candidate : MASTERS)
+		{
+			for (String name : candidate.getNpcNames())
+			{
+				int end = start + name.length();
+				if (message.regionMatches(true, start, name, 0, name.length())
+					&& end < message.length() && message.charAt(end) == ':')
+				{
+					return candidate;
+				}
+			}
+		}
+		return null;
+	}
+
+	public Event getEvent()
+	{
+		return event;
+	}
+
+	/**
+	 * Streak after a completed task, or -1.
+	 */
+	public int getStreak()
+	{
+		return streak;
+	}
+
+	/**
+	 * Points total after a completed task, or -1 if the message did not say.
+	 */
+	public int getPoints()
+	{
+		return points;
+	}
+
+	/**
+	 * Points awarded for a completed task, or -1 if the message did not say.
+	 */
+	public int getPointsAwarded()
+	{
+		return pointsAwarded;
+	}
+
+	/**
+	 * Number of monsters left on a newly assigned task, or -1 if the message did not say.
+	 */
+	public int getAmount()
+	{
+		return amount;
+	}
+
+	/**
+	 * Master a task was assigned by, or null if the message did not say.
+	 */
+	public SlayerMaster getMaster()
+	{
+		return master;
+	}
+}
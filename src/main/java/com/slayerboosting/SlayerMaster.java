@@ -52,36 +52,132 @@ public enum SlayerMaster
 	private final int points250th;
 	private final int points1000th;
 
+	/** Number of milestone tiers: regular, 10th, 50th, 100th, 250th and 1,000th. */
+	public static final int TIER_COUNT = 6;
+
+	private static final int TIER_CYCLE = 1000;
+
+	private static final String[] TIER_LABELS = {"", "10th", "50th", "100th", "250th", "1,000th"};
+
+	/** Konar's points per tier with the Elite Kourend &amp; Kebos diary. */
+	private static final int[] KOUREND_DIARY_POINTS = {20, 100, 300, 500, 700, 1000};
+
+	/** Tier of each task number modulo 1,000. */
+	private static final byte[] TIER_BY_RESIDUE = new byte[TIER_CYCLE];
+
+	/** Points indexed by [master ordinal][diary variant][tier]; see {@link #getDiaryVariant}. */
+	private static final int[][][] POINTS;
+
+	private static final SlayerMaster[] VALUES = values();
+
+	/** Open-addressed index of lowercase NPC names, built once. */
+	private static final String[] NAME_KEYS = new String[64];
+	private static final SlayerMaster[] NAME_VALUES = new SlayerMaster[NAME_KEYS.length];
+
+	static
+	{
+		for (int residue = 10; residue < TIER_CYCLE; residue += 10)
+		{
+			byte tier = 1;
+			if (residue % 250 == 0)
+			{
+				tier = 4;
+			}
+			else if (residue % 100 == 0)
+			{
+				tier = 3;
+			}
+			else if (residue % 50 == 0)
+			{
+				tier = 2;
+			}
+			TIER_BY_RESIDUE[residue] = tier;
+		}
+		TIER_BY_RESIDUE[0] = 5;
+
+		for (SlayerMaster master : VALUES)
+		{
+			for (String name : master.npcNames)
+			{
+				String key = name.toLowerCase();
+				int mask = NAME_KEYS.length - 1;
+				int i = hashIgnoreCase(key) & mask;
+				while (NAME_KEYS[i] != null)
+				{
+					i = (i + 1) & mask;
+				}
+				NAME_KEYS[i] = key;
+				NAME_VALUES[i] = master;
+			}
+		}
+
+		SlayerMaster[] masters = VALUES;
+		POINTS = new int[masters.length][4][TIER_COUNT];
+		for (SlayerMaster master : masters)
+		{
+			int[] base = {master.basePoints, master.points10th, master.points50th,
+				master.points100th, master.points250th, master.points1000th};
+			for (int variant = 0; variant < 4; variant++)
+			{
+				boolean eliteWesternDiary = (variant & 1) != 0;
+				boolean eliteKourendDiary = (variant & 2) != 0;
+				for (int tier = 0; tier < TIER_COUNT; tier++)
+				{
+					int pts = base[tier];
+					if (master == NIEVE && eliteWesternDiary)
+					{
+						// Elite Western Provinces: +25% points (12->15, 60->75, etc.)
+						pts = (int) Math.round(pts * 1.25);
+					}
+					else if (master == KONAR && eliteKourendDiary)
+					{
+						// Elite Kourend & Kebos: boosted values
+						pts = KOUREND_DIARY_POINTS[tier];
+					}
+					POINTS[master.ordinal()][variant][tier] = pts;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the milestone tier of a task number: 0 for a regular task, then 1 to 5
+	 * for the 10th, 50th, 100th, 250th and 1,000th milestones.
+	 */
+	public static int getTier(int taskNumber)
+	{
+		return taskNumber > 0 ? TIER_BY_RESIDUE[taskNumber % TIER_CYCLE] : 0;
+	}
+
+	/**
+	 * Returns the diary variant index used by the points table.
+	 */
+	public static int getDiaryVariant(boolean eliteWesternDiary, boolean eliteKourendDiary)
+	{
+		return (eliteWesternDiary ? 1 : 0) | (eliteKourendDiary ? 2 : 0);
+	}
+
+	/**
+	 * Returns the number of points this master awards for a task of the given tier.
+	 *
+	 * @param tier the milestone tier, see {@link #getTier(int)}
+	 * @param diaryVariant the diary variant, see {@link #getDiaryVariant(boolean, boolean)}
+	 * @return points awarded
+	 */
+	public int getPointsForTier(int tier, int diaryVariant)
+	{
+		return POINTS[ordinal()][diaryVariant][tier];
+	}
+
 	/**
 	 * Returns the number of points this master awards for a given task streak number.
-	 * Checks milestones from highest to lowest.
 	 *
 	 * @param taskNumber the task number (e.g. 100 for the 100th task)
 	 * @return points awarded
 	 */
 	public int getPointsForTask(int taskNumber)
 	{
-		if (taskNumber > 0 && taskNumber % 1000 == 0)
-		{
-			return points1000th;
-		}
-		if (taskNumber > 0 && taskNumber % 250 == 0)
-		{
-			return points250th;
-		}
-		if (taskNumber > 0 && taskNumber % 100 == 0)
-		{
-			return points100th;
-		}
-		if (taskNumber > 0 && taskNumber % 50 == 0)
-		{
-			return points50th;
-		}
-		if (taskNumber > 0 && taskNumber % 10 == 0)
-		{
-			return points10th;
-		}
-		return basePoints;
+		return POINTS[ordinal()][0][getTier(taskNumber)];
 	}
 
 	/**
@@ -95,48 +191,7 @@ public enum SlayerMaster
 	 */
 	public int getPointsForTask(int taskNumber, boolean eliteWesternDiary, boolean eliteKourendDiary)
 	{
-		int pts = getPointsForTask(taskNumber);
-
-		if (this == NIEVE && eliteWesternDiary)
-		{
-			// Elite Western Provinces: +25% points (12->15, 60->75, etc.)
-			pts = (int) Math.round(pts * 1.25);
-		}
-		else if (this == KONAR && eliteKourendDiary)
-		{
-			// Elite Kourend & Kebos: boosted values
-			pts = getKourendDiaryPoints(taskNumber);
-		}
-
-		return pts;
-	}
-
-	/**
-	 * Returns Konar's boosted point values with Elite Kourend &amp; Kebos diary.
-	 */
-	private int getKourendDiaryPoints(int taskNumber)
-	{
-		if (taskNumber > 0 && taskNumber % 1000 == 0)
-		{
-			return 1000;
-		}
-		if (taskNumber > 0 && taskNumber % 250 == 0)
-		{
-			return 700;
-		}
-		if (taskNumber > 0 && taskNumber % 100 == 0)
-		{
-			return 500;
-		}
-		if (taskNumber > 0 && taskNumber % 50 == 0)
-		{
-			return 300;
-		}
-		if (taskNumber > 0 && taskNumber % 10 == 0)
-		{
-			return 100;
-		}
-		return 20;
+		return POINTS[ordinal()][getDiaryVariant(eliteWesternDiary, eliteKourendDiary)][getTier(taskNumber)];
 	}
 
 	/**
@@ -144,27 +199,7 @@ public enum SlayerMaster
 	 */
 	public static String getMilestoneLabel(int taskNumber)
 	{
-		if (taskNumber > 0 && taskNumber % 1000 == 0)
-		{
-			return "1,000th";
-		}
-		if (taskNumber > 0 && taskNumber % 250 == 0)
-		{
-			return "250th";
-		}
-		if (taskNumber > 0 && taskNumber % 100 == 0)
-		{
-			return "100th";
-		}
-		if (taskNumber > 0 && taskNumber % 50 == 0)
-		{
-			return "50th";
-		}
-		if (taskNumber > 0 && taskNumber % 10 == 0)
-		{
-			return "10th";
-		}
-		return "";
+		return TIER_LABELS[getTier(taskNumber)];
 	}
 
 	/**
@@ -179,19 +214,40 @@ public enum SlayerMaster
 		{
 			return null;
 		}
-		for (SlayerMaster master : values())
+
+		int mask = NAME_KEYS.length - 1;
+		for (int i = hashIgnoreCase(npcName) & mask; NAME_KEYS[i] != null; i = (i + 1) & mask)
 		{
-			for (String name : master.npcNames)
+			if (NAME_KEYS[i].equalsIgnoreCase(npcName))
 			{
-				if (name.equalsIgnoreCase(npcName))
-				{
-					return master;
-				}
+				return NAME_VALUES[i];
 			}
 		}
 		return null;
 	}
 
+	/**
+	 * Returns the master with the given ordinal without cloning the {@link #values()} array.
+	 */
+	public static SlayerMaster fromOrdinal(int ordinal)
+	{
+		return VALUES[ordinal];
+	}
+
+	/**
+	 * Case-insensitive string hash, equal for any two strings that match with
+	 * {@link String#equalsIgnoreCase(String)} in the ASCII range of NPC names.
+	 */
+	private static int hashIgnoreCase(String s)
+	{
+		int h = 0;
+		for (int i = 0; i < s.length(); i++)
+		{
+			h = 31 * h + Character.toLowerCase(s.charAt(i));
+		}
+		return h ^ (h >>> 16);
+	}
+
 	/**
 	 * Check whether a given NPC name belongs to any slayer master.
 	 */
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Immutable view of the player's slayer progress and the master to use for the next
+ * task.
+ *
+ * <p>The plugin publishes a new instance through a volatile field whenever anything
+ * changes, so readers on any thread see a consistent set of values without locking.
+ * Every derived state has a higher {@link #getVersion() version} than the one it was
+ * derived from, so readers can cache work per version.</p>
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SlayerState
+{
+	/** State before anything has been read from the client. */
+	public static final SlayerState EMPTY = new SlayerState(0, 0, 0, 0, false, null, 0, 0, null, 0);
+
+	long version;
+
+	int streak;
+	int points;
+	int taskCount;
+
+	boolean milestoneActive;
+	SlayerMaster milestoneMaster;
+	int milestoneTaskNumber;
+	int milestonePoints;
+
+	/** Master to use for the next task; null until the rules have been evaluated. */
+	SlayerMaster nextMaster;
+	int nextTaskPoints;
+
+	public int getNextTask()
+	{
+		return streak + 1;
+	}
+
+	/**
+	 * Copy with new varbit values, keeping the last evaluation until the rules are
+	 * evaluated again.
+	 */
+	SlayerState withCounters(int streak, int points, int taskCount)
+	{
+		return new SlayerState(version + 1, streak, points, taskCount,
+			milestoneActive, milestoneMaster, milestoneTaskNumber, milestonePoints, nextMaster, nextTaskPoints);
+	}
+
+	/**
+	 * Copy where the next task is a milestone for the given master.
+	 */
+	SlayerState withMilestone(SlayerMaster master, int masterPoints)
+	{
+		return new SlayerState(version + 1, streak, points, taskCount,
+			true, master, streak + 1, masterPoints, master, masterPoints);
+	}
+
+	/**
+	 * Copy where no rule covers the next task and it goes to the default master.
+	 */
+	SlayerState withDefault(SlayerMaster master, int masterPoints)
+	{
+		return new SlayerState(version + 1, streak, points, taskCount,
+			false, null, 0, 0, master, masterPoints);
+	}
+
+	/**
+	 * Empty state with a higher version, for logout and shutdown.
+	 */
+	SlayerState cleared()
+	{
+		return new SlayerState(version + 1, 0, 0, 0, false, null, 0, 0, null, 0);
+	}
+}
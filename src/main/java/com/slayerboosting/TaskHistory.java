@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of completed slayer tasks for one account.
+ *
+ * <p>The file is a 16-byte header followed by fixed-width 12-byte records, so the n-th
+ * record sits at a known offset and a memory-mapped read needs no parsing up front:</p>
+ *
+ * <pre>
+ * header: int magic, short version, short record size, long base epoch second
+ * record: int seconds since base (unsigned), int streak, short points delta,
+ *         byte master ordinal (0xFF unknown), byte tier
+ * </pre>
+ *
+ * <p>Appends are buffered in memory and written by the executor a few seconds later,
+ * so the client thread never touches the disk.</p>
+ */
+@Slf4j
+public final class TaskHistory
+{
+	static final int MAGIC = 0x53424854;
+	static final short VERSION = 1;
+	static final int HEADER_SIZE = 16;
+	static final int RECORD_SIZE = 12;
+
+	/** 2020-01-01T00:00:00Z; unsigned second offsets from here last until 2156. */
+	static final long BASE_EPOCH_SECOND = 1_577_836_800L;
+
+	private static final int UNKNOWN_MASTER = 0xFF;
+	private static final int INITIAL_BUFFER_RECORDS = 64;
+	private static final long FLUSH_DELAY_SECONDS = 5;
+
+	private final Path file;
+	private final ScheduledExecutorService executor;
+
+	/** Records appended since the last flush, guarded by this. */
+	private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_RECORDS * RECORD_SIZE);
+	/** Buffer handed to the executor for writing, swapped with {@link #pending} on flush. */
+	private ByteBuffer writing = ByteBuffer.allocate(INITIAL_BUFFER_RECORDS * RECORD_SIZE);
+	private boolean flushScheduled;
+	private boolean closed;
+
+	/** Opened lazily by the executor; null until the first flush or after a failure. */
+	private FileChannel channel;
+	private boolean failed;
+
+	public TaskHistory(Path file, ScheduledExecutorService executor)
+	{
+		this.file = file;
+		this.executor = executor;
+	}
+
+	public Path getFile()
+	{
+		return file;
+	}
+
+	/**
+	 * Append a completed task. Safe to call from any thread; the record reaches the
+	 * file on the next flush.
+	 *
+	 * @param master the master the task was done for, or null if unknown
+	 */
+	public synchronized void append(long epochMillis, int streak, int pointsDelta, SlayerMaster master, int tier)
+	{
+		if (closed)
+		{
+			return;
+		}
+
+		if (pending.remaining() < RECORD_SIZE)
+		{
+			// Only reached when the executor has fallen behind
+			ByteBuffer grown = ByteBuffer.allocate(pending.capacity() * 2);
+			pending.flip();
+			grown.put(pending);
+			pending = grown;
+		}
+
+		long seconds = Math.max(epochMillis / 1000 - BASE_EPOCH_SECOND, 0);
+		pending.putInt((int) Math.min(seconds, 0xFFFFFFFFL));
+		pending.putInt(streak);
+		pending.putShort((short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, pointsDelta)));
+		pending.put((byte) (master != null ? master.ordinal() : UNKNOWN_MASTER));
+		pending.put((byte) tier);
+
+		if (!flushScheduled)
+		{
+			flushScheduled = true;
+			executor.schedule(this::flush, FLUSH_DELAY_SECONDS, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Write any buffered records and close the file. Runs on the executor.
+	 */
+	public void close()
+	{
+		synchronized (this)
+		{
+			if (closed)
+			{
+				return;
+			}
+			closed = true;
+		}
+
+		executor.submit(() ->
+		{
+			flush();
+			if (channel != null)
+			{
+				try
+				{
+					channel.close();
+				}
+				catch (IOException e)
+				{
+					log.warn("Unable to close task history {}", file, e);
+				}
+				channel = null;
+			}
+		});
+	}
+
+	/**
+	 * Write the buffered records. Only called on the executor, which runs one task at a
+	 * time, so the channel and {@link #writing} buffer need no further locking.
+	 */
+	private void flush()
+	{
+		ByteBuffer buffer;
+		synchronized (this)
+		{
+			flushScheduled = false;
+			if (pending.position() == 0)
+			{
+				return;
+			}
+			buffer = pending;
+			pending = writing;
+			writing = buffer;
+		}
+
+		buffer.flip();
+		try
+		{
+			if (!failed && channel == null)
+			{
+				channel = openForAppend();
+			}
+			if (channel != null)
+			{
+				while (buffer.hasRemaining())
+				{
+					channel.write(buffer);
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			log.warn("Unable to write task history {}", file, e);
+			failed = true;
+			channel = null;
+		}
+		buffer.clear();
+	}
+
+	private FileChannel openForAppend() throws IOException
+	{
+		Files.createDirectories(file.getParent());
+		FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		long size = out.size();
+		if (size == 0)
+		{
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE).putLong(BASE_EPOCH_SECOND);
+			header.flip();
+			while (header.hasRemaining())
+			{
+				out.write(header);
+			}
+		}
+		else if (size < HEADER_SIZE || (size - HEADER_SIZE) % RECORD_SIZE != 0)
+		{
+			out.close();
+			log.warn("Task history {} is damaged, not appending", file);
+			failed = true;
+			return null;
+		}
+		return out;
+	}
+
+	/**
+	 * Map the records written so far. Records still buffered are not included.
+	 */
+	public Records read() throws IOException
+	{
+		return read(file);
+	}
+
+	/**
+	 * Map a history file read-only. A missing file reads as empty.
+	 *
+	 * @throws IOException if the file cannot be read or is not a task history
+	 */
+	public static Records read(Path file) throws IOException
+	{
+		MappedByteBuffer buffer;
+		try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			// The mapping stays valid after the channel is closed
+			buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+		}
+		catch (NoSuchFileException e)
+		{
+			return Records.EMPTY;
+		}
+
+		if (buffer.capacity() < HEADER_SIZE
+			|| buffer.getInt(0) != MAGIC
+			|| buffer.getShort(4) != VERSION
+			|| buffer.getShort(6) != RECORD_SIZE)
+		{
+			throw new IOException("Not a task history file: " + file);
+		}
+		return new Records(buffer, buffer.getLong(8), (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE);
+	}
+
+	/**
+	 * Read-only view over mapped task records, read on demand by index.
+	 */
+	public static final class Records
+	{
+		static final Records EMPTY = new Records(ByteBuffer.allocate(HEADER_SIZE), BASE_EPOCH_SECOND, 0);
+
+		private final ByteBuffer buffer;
+		private final long baseEpochSecond;
+		private final int size;
+
+		private Records(ByteBuffer buffer, long baseEpochSecond, int size)
+		{
+			this.buffer = buffer;
+			this.baseEpochSecond = baseEpochSecond;
+			this.size = size;
+		}
+
+		public int size()
+		{
+			return size;
+		}
+
+		/**
+		 * Completion time of the i-th record in epoch milliseconds.
+		 */
+		public long getTimestamp(int i)
+		{
+			return (baseEpochSecond + Integer.toUnsignedLong(buffer.getInt(offset(i)))) * 1000;
+		}
+
+		public int getStreak(int i)
+		{
+			return buffer.getInt(offset(i) + 4);
+		}
+
+		public int getPointsDelta(int i)
+		{
+			return buffer.getShort(offset(i) + 8);
+		}
+
+		/**
+		 * Master of the i-th record, or null if it was not known when recorded.
+		 */
+		public SlayerMaster getMaster(int i)
+		{
+			int ordinal = buffer.get(offset(i) + 10) & 0xFF;
+			return ordinal == UNKNOWN_MASTER ? null : SlayerMaster.fromOrdinal(ordinal);
+		}
+
+		public int getTier(int i)
+		{
+			return buffer.get(offset(i) + 11);
+		}
+
+		/**
+		 * Sum of the points deltas of all records.
+		 */
+		public long getTotalPoints()
+		{
+			long total = 0;
+			for (int i = 0; i < size; i++)
+			{
+				total += getPointsDelta(i);
+			}
+			return total;
+		}
+
+		private int offset(int i)
+		{
+			if (i < 0 || i >= size)
+			{
+				throw new IndexOutOfBoundsException("Record " + i + " of " + size);
+			}
+			return HEADER_SIZE + i * RECORD_SIZE;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class BackgroundJobsTest
+{
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	private final List<Object> delivered = Collections.synchronizedList(new ArrayList<>());
+	private final BackgroundJobs jobs = new BackgroundJobs(executor, Runnable::run);
+
+	@After
+	public void tearDown()
+	{
+		jobs.shutdown();
+	}
+
+	@Test
+	public void testResultIsDelivered() throws Exception
+	{
+		jobs.submit("square", 12, i -> i * i, delivered::add);
+		drain();
+
+		assertEquals(Collections.singletonList(144), delivered);
+	}
+
+	@Test
+	public void testNewerJobCancelsOlder() throws Exception
+	{
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		jobs.submit("key", 1, i ->
+		{
+			started.countDown();
+			awaitQuietly(release);
+			return i;
+		}, delivered::add);
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		jobs.submit("key", 2, i -> i, delivered::add);
+		release.countDown();
+		drain();
+
+		assertEquals(Collections.singletonList(2), delivered);
+	}
+
+	@Test
+	public void testDuplicateInputRunsOnce() throws Exception
+	{
+		AtomicInteger runs = new AtomicInteger();
+		for (int i = 0; i < 100; i++)
+		{
+			jobs.submit("key", "same", s -> runs.incrementAndGet(), delivered::add);
+		}
+		drain();
+
+		assertEquals(1, runs.get());
+		assertEquals(1, delivered.size());
+	}
+
+	@Test
+	public void testNothingDeliveredAfterShutdown() throws Exception
+	{
+		CountDownLatch release = new CountDownLatch(1);
+		jobs.submit("key", 1, i ->
+		{
+			awaitQuietly(release);
+			return i;
+		}, delivered::add);
+
+		jobs.shutdown();
+		release.countDown();
+		jobs.submit("key", 2, i -> i, delivered::add);
+
+		assertTrue(executor.isShutdown());
+		assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+		assertTrue(delivered.isEmpty());
+	}
+
+	/**
+	 * Wait for every job submitted so far to finish.
+	 */
+	private void drain() throws Exception
+	{
+		executor.submit(() -> null).get(5, TimeUnit.SECONDS);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch)
+	{
+		try
+		{
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}
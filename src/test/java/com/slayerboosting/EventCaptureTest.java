@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.gameval.VarPlayerID;
+import net.runelite.api.gameval.VarbitID;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class EventCaptureTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+	@After
+	public void tearDown()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testEventsRoundTrip() throws Exception
+	{
+		Path file = folder.getRoot().toPath().resolve("captures").resolve("session.sbc");
+		NPC konar = FakeClient.npc(1234, 8623, "Konar quo Maten", new WorldPoint(1308, 3786, 0));
+		NPC cow = FakeClient.npc(77, 2790, "Cow", null);
+
+		EventCapture.Writer writer = new EventCapture.Writer(file, executor, 0);
+		writer.gameStateChanged(GameState.LOGGED_IN);
+		writer.configChanged("rules", "KONAR: every 50 and from 500");
+		writer.configChanged("projectionTarget", null);
+		writer.tick();
+		writer.npcSpawned(konar);
+		writer.npcSpawned(cow);
+		writer.npcSpawned(konar);
+		writer.varbitChanged(VarbitID.SLAYER_TASKS_COMPLETED, -1, 1249);
+		writer.varbitChanged(-1, VarPlayerID.SLAYER_COUNT, -7);
+		writer.chatMessage(ChatMessageType.GAMEMESSAGE, "You've completed 3 tasks; return to a Slayer master.");
+		writer.tick();
+		writer.npcDespawned(cow);
+		writer.gameStateChanged(GameState.LOGIN_SCREEN);
+		close(writer);
+
+		List<String> events = new ArrayList<>();
+		assertEquals(13, EventCapture.read(file, new Recorder(events)));
+		assertEquals(Arrays.asList(
+			"state LOGGED_IN",
+			"config rules=KONAR: every 50 and from 500",
+			"config projectionTarget=null",
+			"tick",
+			"spawn 1234 8623 Konar quo Maten " + new WorldPoint(1308, 3786, 0),
+			"spawn 77 2790 Cow null",
+			"spawn 1234 8623 Konar quo Maten " + new WorldPoint(1308, 3786, 0),
+			"varbit " + VarbitID.SLAYER_TASKS_COMPLETED + " -1 1249",
+			"varbit -1 " + VarPlayerID.SLAYER_COUNT + " -7",
+			"chat GAMEMESSAGE You've completed 3 tasks; return to a Slayer master.",
+			"tick",
+			"despawn 77",
+			"state LOGIN_SCREEN"), events);
+	}
+
+	@Test
+	public void testPartialRecordEndsCapture() throws Exception
+	{
+		Path file = folder.getRoot().toPath().resolve("partial.sbc");
+		EventCapture.Writer writer = new EventCapture.Writer(file, executor, 0);
+		writer.tick();
+		writer.chatMessage(ChatMessageType.SPAM, "You're assigned to kill kalphite; only 120 more to go.");
+		close(writer);
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE))
+		{
+			channel.truncate(channel.size() - 1);
+		}
+
+		List<String> events = new ArrayList<>();
+		assertEquals(1, EventCapture.read(file, new Recorder(events)));
+		assertEquals(Arrays.asList("tick"), events);
+	}
+
+	@Test(expected = IOException.class)
+	public void testRejectsOtherFiles() throws Exception
+	{
+		Path file = folder.newFile("other.dat").toPath();
+		Files.write(file, new byte[32]);
+		EventCapture.read(file, new Recorder(new ArrayList<>()));
+	}
+
+	@Test
+	public void testReplayReproducesSession() throws Exception
+	{
+		File captures = folder.newFolder("captures");
+		PluginHarness recorded = new PluginHarness();
+		recorded.setCaptureDirectory(captures);
+		recorded.getConfig().recordEvents = true;
+		recorded.startUp();
+
+		// A short session: a busy scene, some unrelated varbits, a task done and a new one
+		NPC[] scene = PluginHarness.scene(500, 24);
+		recorded.tick();
+		for (NPC npc : scene)
+		{
+			recorded.spawn(npc);
+		}
+		for (int i = 0; i < 2000; i++)
+		{
+			recorded.setVarbit(10_000 + i % 300, i);
+			if (i % 100 == 0)
+			{
+				recorded.tick();
+			}
+		}
+		recorded.setVarbit(VarbitID.SLAYER_TASKS_COMPLETED, 49);
+		recorded.setVarbit(VarbitID.SLAYER_POINTS, 1200);
+		recorded.tick();
+		recorded.chat(ChatMessageType.GAMEMESSAGE, "You've completed 50 tasks and received 15 points, giving you a total of 1,215; return to a Slayer master.");
+		recorded.setConfig("rules", "KONAR: every 50 and from 500\nDURADEL: every 10");
+		recorded.tick();
+		for (int i = 0; i < scene.length; i += 2)
+		{
+			recorded.despawn(scene[i]);
+		}
+		recorded.tick();
+
+		SlayerState expected = recorded.getPlugin().getState();
+		int expectedMasters = recorded.getTrackedMasterCount();
+		recorded.shutDown();
+
+		File[] files = captures.listFiles();
+		assertNotNull(files);
+		assertEquals(1, files.length);
+
+		PluginHarness replayed = new PluginHarness();
+		replayed.startUp();
+		long events = EventReplay.replay(files[0].toPath(), replayed);
+		assertTrue("events " + events, events > 2500);
+
+		SlayerState actual = replayed.getPlugin().getState();
+		assertEquals(expected.getStreak(), actual.getStreak());
+		assertEquals(expected.getPoints(), actual.getPoints());
+		assertEquals(expected.getTaskCount(), actual.getTaskCount());
+		assertEquals(expected.getNextMaster(), actual.getNextMaster());
+		assertEquals(expected.getNextTaskPoints(), actual.getNextTaskPoints());
+		assertEquals(expected.getMilestoneMaster(), actual.getMilestoneMaster());
+		assertEquals(expectedMasters, replayed.getTrackedMasterCount());
+		assertEquals(recorded.getConfig().rules, replayed.getConfig().rules);
+		replayed.shutDown();
+	}
+
+	@Test
+	public void testRecordsOnlySlayerChat() throws Exception
+	{
+		File captures = folder.newFolder("captures");
+		PluginHarness harness = new PluginHarness();
+		harness.setCaptureDirectory(captures);
+		harness.getConfig().recordEvents = true;
+		harness.startUp();
+		harness.tick();
+
+		harness.chat(ChatMessageType.PUBLICCHAT, "You've completed 3 tasks; return to a Slayer master.");
+		harness.chat(ChatMessageType.PRIVATECHAT, "selling slayer helm");
+		harness.chat(ChatMessageType.GAMEMESSAGE, "Welcome to Old School RuneScape.");
+		harness.chat(ChatMessageType.GAMEMESSAGE, "You're assigned to kill kalphite; only 120 more to go.");
+		harness.tick();
+		harness.shutDown();
+
+		File[] files = captures.listFiles();
+		assertNotNull(files);
+		assertEquals(1, files.length);
+
+		List<String> chat = new ArrayList<>();
+		EventCapture.read(files[0].toPath(), new Recorder(chat));
+		chat.removeIf(event -> !event.startsWith("chat "));
+		assertEquals(Arrays.asList("chat GAMEMESSAGE You're assigned to kill kalphite; only 120 more to go."), chat);
+	}
+
+	private void close(EventCapture.Writer writer) throws Exception
+	{
+		writer.close();
+		assertTrue(executor.submit(() -> true).get(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Collects each event as a line of text.
+	 */
+	private static class Recorder implements EventCapture.Visitor
+	{
+		private final List<String> events;
+
+		Recorder(List<String> events)
+		{
+			this.events = events;
+		}
+
+		@Override
+		public void tick()
+		{
+			events.add("tick");
+		}
+
+		@Override
+		public void gameStateChanged(GameState gameState)
+		{
+			events.add("state " + gameState);
+		}
+
+		@Override
+		public void npcSpawned(int index, int id, String name, WorldPoint location)
+		{
+			events.add("spawn " + index + " " + id + " " + name + " " + location);
+		}
+
+		@Override
+		public void npcDespawned(int index)
+		{
+			events.add("despawn " + index);
+		}
+
+		@Override
+		public void varbitChanged(int varbitId, int varpId, int value)
+		{
+			events.add("varbit " + varbitId + " " + varpId + " " + value);
+		}
+
+		@Override
+		public void configChanged(String key, String value)
+		{
+			events.add("config " + key + "=" + value);
+		}
+
+		@Override
+		public void chatMessage(ChatMessageType type, String message)
+		{
+			events.add("chat " + type + " " + message);
+		}
+	}
+}
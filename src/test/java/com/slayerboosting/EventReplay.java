@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Feeds an {@link EventCapture} through a {@link PluginHarness} at full speed: game
+ * ticks follow each other immediately, so a recorded session runs as fast as the
+ * plugin can handle its events.
+ *
+ * <p>Recorded NPCs are recreated as stub NPCs with their scene index, id, name and
+ * spawn location; varbits, game states and config values are applied to the fake
+ * client and test config before their events are posted. Settings that make the
+ * plugin write files are not replayed.</p>
+ */
+public class EventReplay implements EventCapture.Visitor
+{
+	/** Settings that write files, which a replay must not turn on. */
+	private static final Set<String> IGNORED_CONFIG = ImmutableSet.of("recordEvents", "recordHistory");
+
+	private final PluginHarness harness;
+	private final Map<Integer, NPC> npcs = new HashMap<>();
+
+	public EventReplay(PluginHarness harness)
+	{
+		this.harness = harness;
+	}
+
+	/**
+	 * Replay a capture file into a started harness.
+	 *
+	 * @return the number of events replayed, counting ticks
+	 */
+	public static long replay(Path file, PluginHarness harness) throws IOException
+	{
+		return EventCapture.read(file, new EventReplay(harness));
+	}
+
+	@Override
+	public void tick()
+	{
+		harness.tick();
+	}
+
+	@Override
+	public void gameStateChanged(GameState gameState)
+	{
+		if (gameState == GameState.LOGIN_SCREEN)
+		{
+			npcs.clear();
+		}
+		harness.setGameState(gameState);
+	}
+
+	@Override
+	public void npcSpawned(int index, int id, String name, WorldPoint location)
+	{
+		NPC npc = FakeClient.npc(index, id, name, location);
+		npcs.put(index, npc);
+		harness.spawn(npc);
+	}
+
+	@Override
+	public void npcDespawned(int index)
+	{
+		NPC npc = npcs.remove(index);
+		if (npc != null)
+		{
+			harness.despawn(npc);
+		}
+	}
+
+	@Override
+	public void varbitChanged(int varbitId, int varpId, int value)
+	{
+		harness.varChanged(varbitId, varpId, value);
+	}
+
+	@Override
+	public void configChanged(String key, String value)
+	{
+		if (IGNORED_CONFIG.contains(key))
+		{
+			return;
+		}
+		harness.setConfig(key, value);
+	}
+
+	@Override
+	public void chatMessage(ChatMessageType type, String message)
+	{
+		harness.chat(type, message);
+	}
+}
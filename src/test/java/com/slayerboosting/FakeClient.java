@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Headless stand-in for the RuneLite {@link Client}, backed by a dynamic proxy.
+ *
+ * <p>Only the calls the plugin makes are answered; everything else returns a zero
+ * value. Stub NPCs and players answer from preboxed values so calling them on a hot
+ * path does not allocate.</p>
+ */
+public class FakeClient
+{
+	/** Scene index for the next stub NPC created without one. */
+	private static final AtomicInteger nextNpcIndex = new AtomicInteger();
+
+	private final Map<Integer, Integer> varbits = new HashMap<>();
+	private final Map<Integer, Integer> varps = new HashMap<>();
+	private final List<NPC> npcs = new ArrayList<>();
+	private GameState gameState = GameState.LOGGED_IN;
+	private Player localPlayer;
+
+	private final Client client = (Client) Proxy.newProxyInstance(
+		FakeClient.class.getClassLoader(), new Class<?>[]{Client.class}, this::invoke);
+
+	public Client getClient()
+	{
+		return client;
+	}
+
+	public void setGameState(GameState gameState)
+	{
+		this.gameState = gameState;
+	}
+
+	public void setVarbit(int varbitId, int value)
+	{
+		varbits.put(varbitId, value);
+	}
+
+	public void setVarp(int varpId, int value)
+	{
+		varps.put(varpId, value);
+	}
+
+	public List<NPC> getNpcs()
+	{
+		return npcs;
+	}
+
+	public void setLocalPlayer(WorldPoint location)
+	{
+		localPlayer = location == null ? null : stub(Player.class, new StubHandler(0, 0, "Player", location));
+	}
+
+	private Object invoke(Object proxy, Method method, Object[] args)
+	{
+		switch (method.getName())
+		{
+			case "getGameState":
+				return gameState;
+			case "getVarbitValue":
+				return varbits.getOrDefault((Integer) args[0], 0);
+			case "getVarpValue":
+				return varps.getOrDefault((Integer) args[0], 0);
+			case "getNpcs":
+				return npcs;
+			case "getLocalPlayer":
+				return localPlayer;
+			default:
+				return objectMethod(proxy, method, args);
+		}
+	}
+
+	/**
+	 * Create a stub NPC. The NPC hashes by identity like client NPCs do.
+	 */
+	public static NPC npc(int id, String name, WorldPoint location)
+	{
+		return npc(nextNpcIndex.getAndIncrement() & 0x7FFF, id, name, location);
+	}
+
+	/**
+	 * Create a stub NPC with a given scene index.
+	 */
+	public static NPC npc(int index, int id, String name, WorldPoint location)
+	{
+		return stub(NPC.class, new StubHandler(index, id, name, location));
+	}
+
+	private static <T> T stub(Class<T> type, InvocationHandler handler)
+	{
+		return type.cast(Proxy.newProxyInstance(FakeClient.class.getClassLoader(), new Class<?>[]{type}, handler));
+	}
+
+	private static Object objectMethod(Object proxy, Method method, Object[] args)
+	{
+		switch (method.getName())
+		{
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return "Fake" + method.getDeclaringClass().getSimpleName();
+			default:
+				return zero(method.getReturnType());
+		}
+	}
+
+	private static Object zero(Class<?> type)
+	{
+		if (!type.isPrimitive() || type == void.class)
+		{
+			return null;
+		}
+		if (type == boolean.class)
+		{
+			return false;
+		}
+		if (type == long.class)
+		{
+			return 0L;
+		}
+		if (type == float.class)
+		{
+			return 0f;
+		}
+		if (type == double.class)
+		{
+			return 0d;
+		}
+		if (type == char.class)
+		{
+			return (char) 0;
+		}
+		if (type == byte.class)
+		{
+			return (byte) 0;
+		}
+		if (type == short.class)
+		{
+			return (short) 0;
+		}
+		return 0;
+	}
+
+	/**
+	 * Answers actor calls from fields fixed at creation, boxed once up front.
+	 */
+	private static class StubHandler implements InvocationHandler
+	{
+		private final Integer index;
+		private final Integer id;
+		private final String name;
+		private final WorldPoint location;
+		private Integer hash;
+
+		StubHandler(int index, int id, String name, WorldPoint location)
+		{
+			this.index = index;
+			this.id = id;
+			this.name = name;
+			this.location = location;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args)
+		{
+			switch (method.getName())
+			{
+				case "getIndex":
+					return index;
+				case "getId":
+					return id;
+				case "getName":
+					return name;
+				case "getWorldLocation":
+					return location;
+				case "hashCode":
+					if (hash == null)
+					{
+						hash = System.identityHashCode(proxy);
+					}
+					return hash;
+				default:
+					return objectMethod(proxy, method, args);
+			}
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class LatencyHistogramTest
+{
+	@Test
+	public void testBucketBoundsAreInclusive()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(1_000);
+		assertEquals(1_000, histogram.getQuantileNanos(1));
+
+		histogram.record(1_001);
+		assertEquals(1_000, histogram.getQuantileNanos(0.5));
+		assertEquals(2_000, histogram.getQuantileNanos(1));
+
+		histogram.record(10_000_000);
+		assertEquals(10_000_000, histogram.getQuantileNanos(1));
+	}
+
+	@Test
+	public void testP99Boundary()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+		record(histogram, 99, 500);
+		record(histogram, 1, 40_000);
+		// The 99th of 100 samples is still in the first bucket
+		assertEquals(1_000, histogram.getQuantileNanos(0.99));
+		assertEquals(50_000, histogram.getQuantileNanos(1));
+
+		histogram.reset();
+		record(histogram, 98, 500);
+		record(histogram, 2, 40_000);
+		assertEquals(50_000, histogram.getQuantileNanos(0.99));
+		assertEquals(1_000, histogram.getQuantileNanos(0.98));
+	}
+
+	@Test
+	public void testUnboundedBucketReportsMax()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+		record(histogram, 99, 500);
+		histogram.record(10_000_001);
+		histogram.record(25_000_000);
+
+		assertEquals(25_000_000, histogram.getMaxNanos());
+		assertEquals(1_000, histogram.getQuantileNanos(0.9));
+		assertEquals(25_000_000, histogram.getQuantileNanos(0.995));
+		assertEquals(25_000_000, histogram.getQuantileNanos(1));
+	}
+
+	@Test
+	public void testCountsAndReset()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getQuantileNanos(0.99));
+		assertEquals(0, histogram.getMeanNanos());
+
+		histogram.record(1_000);
+		histogram.record(3_000);
+		histogram.record(8_000);
+		assertEquals(3, histogram.getCount());
+		assertEquals(12_000, histogram.getTotalNanos());
+		assertEquals(4_000, histogram.getMeanNanos());
+		assertEquals(8_000, histogram.getMaxNanos());
+
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getTotalNanos());
+		assertEquals(0, histogram.getMeanNanos());
+		assertEquals(0, histogram.getMaxNanos());
+		assertEquals(0, histogram.getQuantileNanos(0.99));
+
+		// Buckets start empty again after a reset
+		histogram.record(400_000);
+		assertEquals(500_000, histogram.getQuantileNanos(0.5));
+	}
+
+	@Test
+	public void testMetricsResetClearsTimers()
+	{
+		PluginMetrics metrics = new PluginMetrics();
+		metrics.record(PluginMetrics.Timer.HIGHLIGHT_NPC, System.nanoTime());
+		metrics.getOverlayRebuilds().increment();
+		assertEquals(1, metrics.get(PluginMetrics.Timer.HIGHLIGHT_NPC).getCount());
+		assertEquals(0, metrics.get(PluginMetrics.Timer.VARBIT_CHANGED).getCount());
+
+		metrics.reset();
+		assertEquals(0, metrics.get(PluginMetrics.Timer.HIGHLIGHT_NPC).getCount());
+		assertEquals(0, metrics.getOverlayRebuilds().sum());
+	}
+
+	private static void record(LatencyHistogram histogram, int times, long nanos)
+	{
+		for (int i = 0; i < times; i++)
+		{
+			histogram.record(nanos);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.HashSet;
+import java.util.Set;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class MasterSpawnTest
+{
+	// Konar stands at 1308, 3786, in region 20, 59 whose south edge is y = 3776
+	private static final WorldPoint KONAR = MasterSpawn.KONAR.getLocation();
+
+	@Test
+	public void testSpawnTile()
+	{
+		assertTrue(MasterSpawn.isApproachRegion(KONAR.getRegionID()));
+		assertEquals(MasterSpawn.KONAR, MasterSpawn.findNear(KONAR, 0));
+		assertEquals(MasterSpawn.KONAR, MasterSpawn.findNear(KONAR, 10));
+	}
+
+	@Test
+	public void testJustOutsideRange()
+	{
+		WorldPoint edge = new WorldPoint(KONAR.getX() + 10, KONAR.getY() - 10, 0);
+		assertEquals(MasterSpawn.KONAR, MasterSpawn.findNear(edge, 10));
+
+		assertNull(MasterSpawn.findNear(new WorldPoint(KONAR.getX() + 11, KONAR.getY(), 0), 10));
+		assertNull(MasterSpawn.findNear(new WorldPoint(KONAR.getX(), KONAR.getY() - 11, 0), 10));
+	}
+
+	@Test
+	public void testSpawnInNeighbouringRegion()
+	{
+		// One tile south of Konar's region, eleven tiles from her
+		WorldPoint south = new WorldPoint(KONAR.getX(), 3775, 0);
+		assertEquals(KONAR.getRegionID() - 1, south.getRegionID());
+		assertTrue(MasterSpawn.isApproachRegion(south.getRegionID()));
+		assertEquals(MasterSpawn.KONAR, MasterSpawn.findNear(south, 11));
+		assertNull(MasterSpawn.findNear(south, 10));
+
+		// Two regions away is not indexed at all, however large the range
+		WorldPoint farther = new WorldPoint(KONAR.getX(), 3711, 0);
+		assertFalse(MasterSpawn.isApproachRegion(farther.getRegionID()));
+		assertNull(MasterSpawn.findNear(farther, 100));
+	}
+
+	@Test
+	public void testPlaneIsIgnored()
+	{
+		// Duradel stands upstairs, the player may still be on the ground floor
+		WorldPoint duradel = MasterSpawn.DURADEL.getLocation();
+		assertEquals(1, duradel.getPlane());
+		assertEquals(MasterSpawn.DURADEL, MasterSpawn.findNear(new WorldPoint(duradel.getX(), duradel.getY(), 0), 0));
+		assertEquals(MasterSpawn.DURADEL, MasterSpawn.findNear(new WorldPoint(duradel.getX() + 3, duradel.getY(), 2), 5));
+	}
+
+	@Test
+	public void testSpawnTilesAreDistinct()
+	{
+		// A shared tile would leave the later entry unreachable by findNear
+		Set<WorldPoint> tiles = new HashSet<>();
+		for (MasterSpawn spawn : MasterSpawn.values())
+		{
+			assertTrue(spawn + " shares a tile", tiles.add(spawn.getLocation()));
+			assertEquals(spawn, MasterSpawn.findNear(spawn.getLocation(), 0));
+		}
+	}
+
+	@Test
+	public void testAwayFromEveryMaster()
+	{
+		WorldPoint lumbridge = new WorldPoint(3222, 3218, 0);
+		assertFalse(MasterSpawn.isApproachRegion(lumbridge.getRegionID()));
+		assertNull(MasterSpawn.findNear(lumbridge, 50));
+		assertFalse(MasterSpawn.isApproachRegion(-1));
+	}
+}
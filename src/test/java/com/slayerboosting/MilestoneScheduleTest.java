@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import java.util.Random;
+import org.junit.Test;
+
+public class MilestoneScheduleTest
+{
+	private static final String[] RULES = {
+		"",
+		"10:DURADEL\n50:KONAR",
+		"10:KONAR",
+		"7:DURADEL\n50:KONAR\n1000:KONAR",
+		"3:VANNAKA\n250:NIEVE",
+		"KONAR: every 50 and from 500\nDURADEL: every 10",
+		"DURADEL: every 10 and until 3000",
+		"NIEVE: every 20 at 10\nDURADEL: every 20 and not every 100",
+	};
+
+	@Test
+	public void testCursorMatchesRules()
+	{
+		for (String text : RULES)
+		{
+			RuleTable rules = RuleTable.parse(text);
+			MilestoneSchedule schedule = MilestoneSchedule.build(rules, false, false);
+			MilestoneSchedule.Cursor cursor = schedule.cursor(1);
+
+			int limit = 25_000;
+			int[] nextMilestone = new int[limit + 2];
+			nextMilestone[limit + 1] = -1;
+			for (int task = limit; task >= 1; task--)
+			{
+				nextMilestone[task] = rules.match(task) >= 0 ? task : nextMilestone[task + 1];
+			}
+
+			for (int task = 1; task <= limit; task++)
+			{
+				cursor.moveTo(task);
+				int rule = rules.match(task);
+				assertEquals(text + " #" + task, rule >= 0, cursor.isMilestone());
+				if (rule >= 0)
+				{
+					assertEquals(text + " #" + task, rules.getMaster(rule), cursor.getMilestoneMaster(0));
+				}
+
+				int next = nextMilestone[task];
+				if (next > 0)
+				{
+					assertEquals(text + " #" + task, next - task, cursor.tasksUntilNextMilestone());
+					assertEquals(text + " #" + task, next, cursor.getMilestoneTask(0));
+					if (nextMilestone[next + 1] > 0)
+					{
+						assertEquals(text + " #" + task, nextMilestone[next + 1], cursor.getMilestoneTask(1));
+					}
+				}
+				else if (task + schedule.getPeriod() < limit)
+				{
+					assertEquals(text + " #" + task, -1, cursor.tasksUntilNextMilestone());
+					assertEquals(text + " #" + task, -1, cursor.getMilestoneTask(0));
+					assertNull(cursor.getMilestoneMaster(0));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testProjectionMatchesTaskByTaskSum()
+	{
+		Random random = new Random(14);
+		// Turael awards nothing, so the others check the default master's share too
+		for (SlayerMaster defaultMaster : new SlayerMaster[]{SlayerMaster.TURAEL, SlayerMaster.DURADEL, SlayerMaster.KONAR})
+		{
+			for (String text : RULES)
+			{
+				RuleTable rules = RuleTable.parse(text);
+				for (int variant = 0; variant < 4; variant++)
+				{
+					boolean western = (variant & 1) != 0;
+					boolean kourend = (variant & 2) != 0;
+					MilestoneSchedule.Projection projection = MilestoneSchedule.build(rules, western, kourend)
+						.projection(defaultMaster);
+
+					// Running sum of points for tasks 1..task, checked against every prefix
+					int limit = 25_000;
+					long[] prefix = new long[limit + 1];
+					for (int task = 1; task <= limit; task++)
+					{
+						int rule = rules.match(task);
+						SlayerMaster master = rule < 0 ? defaultMaster : rules.getMaster(rule);
+						prefix[task] = prefix[task - 1] + master.getPointsForTask(task, western, kourend);
+						if (prefix[task] != projection.getPoints(1, task))
+						{
+							assertEquals(text + " " + defaultMaster + " diaries " + variant + " #" + task,
+								prefix[task], projection.getPoints(1, task));
+						}
+					}
+
+					for (int i = 0; i < 1000; i++)
+					{
+						int from = 1 + random.nextInt(limit);
+						int to = from + random.nextInt(limit - from + 1);
+						assertEquals(text + " " + defaultMaster + " " + from + ".." + to,
+							prefix[to] - prefix[from - 1], projection.getPoints(from, to));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testProjectionOfEmptyRange()
+	{
+		MilestoneSchedule.Projection projection = MilestoneSchedule.build(RuleTable.parse("10:DURADEL"), false, false)
+			.projection(SlayerMaster.TURAEL);
+
+		assertEquals(0, projection.getPoints(11, 10));
+		assertEquals(projection.getPoints(1, 10), projection.getPoints(-5, 10));
+	}
+
+	@Test
+	public void testProjectionBeyondIntRange()
+	{
+		RuleTable rules = RuleTable.parse("10:DURADEL\n50:KONAR");
+		MilestoneSchedule schedule = MilestoneSchedule.build(rules, true, true);
+		MilestoneSchedule.Projection projection = schedule.projection(SlayerMaster.TURAEL);
+
+		long periodPoints = projection.getPoints(1, schedule.getPeriod());
+		long periods = 10_000_000_000L;
+		long end = periods * schedule.getPeriod();
+
+		assertEquals(periods * periodPoints, projection.getPoints(1, end));
+		assertEquals(projection.getPoints(1, 1234), projection.getPoints(end + 1, end + 1234));
+	}
+}
@@ -0,0 +1,557 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.game.npcoverlay.NpcOverlayService;
+import net.runelite.client.ui.ClientToolbar;
+import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.util.ColorUtil;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Wires a {@link SlayerBoostingPlugin} to a {@link FakeClient} and stub RuneLite
+ * services so its event handlers can be driven headlessly.
+ */
+public class PluginHarness
+{
+	/** RS profile key of the logged in account. */
+	public static final String PROFILE = "rsprofile.harness";
+
+	private static final String[] COMMON_NPC_NAMES = {
+		"Man", "Woman", "Guard", "Banker", "Goblin", "Cow", "Chicken", "Rat", "Giant rat",
+		"Hans", "Cook", "Duke Horacio", "Shop keeper", "Shop assistant", "Gardener",
+		"Imp", "Dwarf", "Barbarian", "White Knight", "Monk", "Thief", "Spider", "Giant spider",
+		"Town crier", "Lumbridge Guide", "Father Aereck", "Bob", "Tool Leprechaun",
+		"Skeleton", "Zombie", "Ghost", "Hill Giant", "Moss giant", "Fire giant", "Abyssal demon",
+		"Gargoyle", "Nechryael", "Dust devil", "Kurask", "Cave horror", "Slayer Master",
+	};
+
+	private final FakeClient fakeClient = new FakeClient();
+	private final TestConfig config = new TestConfig();
+	private final ClientThread clientThread = mock(ClientThread.class, withSettings().stubOnly());
+	private final ScheduledExecutorService executor = mock(ScheduledExecutorService.class, withSettings().stubOnly());
+	private final ConfigManager configManager = mock(ConfigManager.class, withSettings().stubOnly());
+	private final OverlayManager overlayManager = mock(OverlayManager.class, withSettings().stubOnly());
+	private final NpcOverlayService npcOverlayService = mock(NpcOverlayService.class, withSettings().stubOnly());
+	private final ClientToolbar clientToolbar = mock(ClientToolbar.class, withSettings().stubOnly());
+	private final AtomicInteger overlayRebuilds = new AtomicInteger();
+	private final Map<String, String> profileConfig = new HashMap<>();
+
+	private final SlayerBoostingPlugin plugin = new SlayerBoostingPlugin();
+	private final SlayerBoostingOverlay overlay = new SlayerBoostingOverlay(plugin);
+
+	/** Stands in for the plugin's RuneLite folder, so history and captures never land in the user's. */
+	private final File directory;
+
+	public PluginHarness()
+	{
+		// Run client thread work immediately, the harness is the client thread
+		doAnswer(invocation ->
+		{
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(clientThread).invokeLater(any(Runnable.class));
+		doAnswer(invocation ->
+		{
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(clientThread).invoke(any(Runnable.class));
+		// Work on RuneLite's executor also runs immediately, without the delay
+		doAnswer(invocation ->
+		{
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(executor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+		doAnswer(invocation ->
+		{
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(executor).submit(any(Runnable.class));
+		doAnswer(invocation ->
+		{
+			overlayRebuilds.incrementAndGet();
+			return null;
+		}).when(npcOverlayService).rebuild();
+		// One RS profile, whose values are stored and posted like the real ConfigManager does
+		doAnswer(invocation -> PROFILE).when(configManager).getRSProfileKey();
+		doAnswer(invocation -> profileConfig.get(invocation.<String>getArgument(2)))
+			.when(configManager).getConfiguration(anyString(), anyString(), anyString());
+		doAnswer(invocation ->
+		{
+			profileConfig.put(invocation.getArgument(2), invocation.getArgument(3));
+			ConfigChanged event = new ConfigChanged();
+			event.setGroup(invocation.getArgument(0));
+			event.setProfile(invocation.getArgument(1));
+			event.setKey(invocation.getArgument(2));
+			event.setNewValue(invocation.getArgument(3));
+			plugin.onConfigChanged(event);
+			return null;
+		}).when(configManager).setConfiguration(anyString(), anyString(), anyString(), anyString());
+
+		inject("client", fakeClient.getClient());
+		inject("clientThread", clientThread);
+		inject("executor", executor);
+		inject("config", config);
+		inject("configManager", configManager);
+		inject("overlayManager", overlayManager);
+		inject("overlay", overlay);
+		inject("debugOverlay", new SlayerBoostingDebugOverlay(plugin));
+		inject("npcOverlayService", npcOverlayService);
+		inject("clientToolbar", clientToolbar);
+
+		try
+		{
+			directory = Files.createTempDirectory("slayerboosting-harness").toFile();
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+		inject("historyDirectory", directory);
+		inject("captureDirectory", new File(directory, "captures"));
+		// Background jobs run inline too, so their results are in place when submit returns
+		plugin.jobExecutor = MoreExecutors::newDirectExecutorService;
+	}
+
+	private void inject(String fieldName, Object value)
+	{
+		try
+		{
+			Field field = SlayerBoostingPlugin.class.getDeclaredField(fieldName);
+			field.setAccessible(true);
+			field.set(plugin, value);
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException("Unable to inject " + fieldName, e);
+		}
+	}
+
+	public FakeClient getFakeClient()
+	{
+		return fakeClient;
+	}
+
+	public TestConfig getConfig()
+	{
+		return config;
+	}
+
+	public SlayerBoostingPlugin getPlugin()
+	{
+		return plugin;
+	}
+
+	public SlayerBoostingOverlay getOverlay()
+	{
+		return overlay;
+	}
+
+	public int getOverlayRebuilds()
+	{
+		return overlayRebuilds.get();
+	}
+
+	public void startUp() throws Exception
+	{
+		plugin.startUp();
+	}
+
+	/**
+	 * Shut the plugin down and delete everything it wrote to the harness folder.
+	 */
+	public void shutDown() throws Exception
+	{
+		plugin.shutDown();
+		try (Stream<Path> files = Files.walk(directory.toPath()))
+		{
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * A value stored for the harness's RS profile, or null.
+	 */
+	public String getProfileConfig(String key)
+	{
+		return profileConfig.get(key);
+	}
+
+	/**
+	 * Folder the plugin writes its task history and event captures to.
+	 */
+	public File getDirectory()
+	{
+		return directory;
+	}
+
+	public void tick()
+	{
+		plugin.onGameTick(null);
+	}
+
+	public void spawn(NPC npc)
+	{
+		plugin.onNpcSpawned(new NpcSpawned(npc));
+	}
+
+	public void despawn(NPC npc)
+	{
+		plugin.onNpcDespawned(new NpcDespawned(npc));
+	}
+
+	/**
+	 * Set the fake client's game state and post the matching {@link GameStateChanged} event.
+	 */
+	public void setGameState(GameState gameState)
+	{
+		fakeClient.setGameState(gameState);
+		GameStateChanged event = new GameStateChanged();
+		event.setGameState(gameState);
+		plugin.onGameStateChanged(event);
+	}
+
+	/**
+	 * Number of slayer master NPCs the plugin is tracking.
+	 */
+	public int getTrackedMasterCount()
+	{
+		try
+		{
+			Field field = SlayerBoostingPlugin.class.getDeclaredField("trackedMasters");
+			field.setAccessible(true);
+			return ((Map<?, ?>) field.get(plugin)).size();
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Change a config value and post the matching {@link ConfigChanged} event.
+	 */
+	public void changeConfig(String key, Runnable change)
+	{
+		change.run();
+		ConfigChanged event = new ConfigChanged();
+		event.setGroup(SlayerBoostingConfig.GROUP);
+		event.setKey(key);
+		plugin.onConfigChanged(event);
+	}
+
+	/**
+	 * Set a config value from its stored string form, as recorded in an event capture,
+	 * and post the matching {@link ConfigChanged} event. Keys without a field in
+	 * {@link TestConfig} keep their default, as do values that were unset.
+	 */
+	public void setConfig(String key, String value)
+	{
+		if (value != null)
+		{
+			try
+			{
+				Field field = TestConfig.class.getField(key);
+				field.set(config, parseConfigValue(field.getType(), value));
+			}
+			catch (NoSuchFieldException e)
+			{
+				// Not settable here, the default stays
+			}
+			catch (IllegalAccessException e)
+			{
+				throw new IllegalStateException(e);
+			}
+		}
+
+		ConfigChanged event = new ConfigChanged();
+		event.setGroup(SlayerBoostingConfig.GROUP);
+		event.setKey(key);
+		event.setNewValue(value);
+		plugin.onConfigChanged(event);
+	}
+
+	private static Object parseConfigValue(Class<?> type, String value)
+	{
+		if (type == boolean.class)
+		{
+			return Boolean.parseBoolean(value);
+		}
+		if (type == int.class)
+		{
+			return Integer.parseInt(value);
+		}
+		if (type == Color.class)
+		{
+			return ColorUtil.fromString(value);
+		}
+		if (type.isEnum())
+		{
+			for (Object constant : type.getEnumConstants())
+			{
+				if (((Enum<?>) constant).name().equals(value))
+				{
+					return constant;
+				}
+			}
+			throw new IllegalArgumentException("No " + type.getSimpleName() + " " + value);
+		}
+		return value;
+	}
+
+	/**
+	 * Post a {@link ChatMessage} event.
+	 */
+	public void chat(ChatMessageType type, String message)
+	{
+		ChatMessage event = new ChatMessage();
+		event.setType(type);
+		event.setMessage(message);
+		plugin.onChatMessage(event);
+	}
+
+	/**
+	 * Record event captures to the given folder instead of the harness one, to keep
+	 * them after {@link #shutDown()}.
+	 */
+	public void setCaptureDirectory(File directory)
+	{
+		inject("captureDirectory", directory);
+	}
+
+	/**
+	 * Set a varbit on the fake client and post the matching {@link VarbitChanged} event.
+	 */
+	public void setVarbit(int varbitId, int value)
+	{
+		varChanged(varbitId, -1, value);
+	}
+
+	/**
+	 * Set a varp on the fake client and post the matching {@link VarbitChanged} event.
+	 */
+	public void setVarp(int varpId, int value)
+	{
+		varChanged(-1, varpId, value);
+	}
+
+	/**
+	 * Post a {@link VarbitChanged} event with both ids as given. The value is the
+	 * varbit's when there is one, otherwise the varp's, as in the client's events.
+	 */
+	public void varChanged(int varbitId, int varpId, int value)
+	{
+		if (varbitId >= 0)
+		{
+			fakeClient.setVarbit(varbitId, value);
+		}
+		else if (varpId >= 0)
+		{
+			fakeClient.setVarp(varpId, value);
+		}
+		VarbitChanged event = new VarbitChanged();
+		event.setVarbitId(varbitId);
+		event.setVarpId(varpId);
+		event.setValue(value);
+		plugin.onVarbitChanged(event);
+	}
+
+	/**
+	 * A scene of NPCs with a realistic name mix: mostly common NPCs, some repeated,
+	 * with the occasional slayer master.
+	 */
+	public static NPC[] scene(int size, long seed)
+	{
+		Random random = new Random(seed);
+		NPC[] npcs = new NPC[size];
+		for (int i = 0; i < size; i++)
+		{
+			// Ids below 128 keep the proxy's boxed return values in the Integer cache
+			if (random.nextInt(100) < 2)
+			{
+				SlayerMaster master = SlayerMaster.values()[random.nextInt(SlayerMaster.values().length)];
+				String name = master.getNpcNames()[random.nextInt(master.getNpcNames().length)];
+				npcs[i] = FakeClient.npc(100 + master.ordinal(), name, null);
+			}
+			else
+			{
+				int common = random.nextInt(COMMON_NPC_NAMES.length);
+				npcs[i] = FakeClient.npc(common, COMMON_NPC_NAMES[common], null);
+			}
+		}
+		return npcs;
+	}
+
+	/**
+	 * {@link SlayerBoostingConfig} with settable values; unset values use the config defaults.
+	 */
+	public static class TestConfig implements SlayerBoostingConfig
+	{
+		public SlayerMaster defaultMaster = SlayerMaster.TURAEL;
+		public boolean showOverlay = true;
+		public OverlayDisplayMode overlayMode = OverlayDisplayMode.ALWAYS;
+		public boolean highlightMasters = true;
+		public boolean showMasterNames;
+		public Color correctMasterColor = Color.GREEN;
+		public Color wrongMasterColor = Color.RED;
+		public boolean eliteWesternDiary;
+		public boolean eliteKourendDiary;
+		public int upcomingBoosts = 1;
+		public int projectionTarget;
+		public boolean recordHistory;
+		public String rules = "10:DURADEL\n50:KONAR";
+		public String optimizerMasters = "TURAEL:1\nDURADEL:3\nKONAR:3";
+		public boolean recordEvents;
+		public boolean showOptimalRate;
+
+		@Override
+		public SlayerMaster defaultMaster()
+		{
+			return defaultMaster;
+		}
+
+		@Override
+		public boolean showOverlay()
+		{
+			return showOverlay;
+		}
+
+		@Override
+		public OverlayDisplayMode overlayMode()
+		{
+			return overlayMode;
+		}
+
+		@Override
+		public boolean highlightMasters()
+		{
+			return highlightMasters;
+		}
+
+		@Override
+		public boolean showMasterNames()
+		{
+			return showMasterNames;
+		}
+
+		@Override
+		public Color correctMasterColor()
+		{
+			return correctMasterColor;
+		}
+
+		@Override
+		public Color wrongMasterColor()
+		{
+			return wrongMasterColor;
+		}
+
+		@Override
+		public boolean eliteWesternDiary()
+		{
+			return eliteWesternDiary;
+		}
+
+		@Override
+		public boolean eliteKourendDiary()
+		{
+			return eliteKourendDiary;
+		}
+
+		@Override
+		public int upcomingBoosts()
+		{
+			return upcomingBoosts;
+		}
+
+		@Override
+		public int projectionTarget()
+		{
+			return projectionTarget;
+		}
+
+		@Override
+		public boolean recordHistory()
+		{
+			return recordHistory;
+		}
+
+		@Override
+		public String rules()
+		{
+			return rules;
+		}
+
+		@Override
+		public String optimizerMasters()
+		{
+			return optimizerMasters;
+		}
+
+		@Override
+		public boolean recordEvents()
+		{
+			return recordEvents;
+		}
+
+		@Override
+		public boolean showOptimalRate()
+		{
+			return showOptimalRate;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.io.File;
+import net.runelite.api.GameState;
+import net.runelite.api.gameval.VarbitID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Profile snapshots as the plugin saves and restores them through {@link PluginHarness}.
+ */
+public class ProfileSnapshotsPluginTest
+{
+	/** Ticks between snapshot flushes, and then some. */
+	private static final int FLUSH_TICKS = 101;
+
+	private PluginHarness harness;
+
+	@Before
+	public void before() throws Exception
+	{
+		harness = new PluginHarness();
+		harness.getConfig().recordHistory = true;
+		harness.startUp();
+		harness.tick();
+	}
+
+	@After
+	public void after() throws Exception
+	{
+		harness.shutDown();
+	}
+
+	@Test
+	public void testFlushDoesNotRebuild()
+	{
+		harness.setVarbit(VarbitID.SLAYER_TASKS_COMPLETED, 10);
+		harness.tick();
+		int rebuilds = harness.getOverlayRebuilds();
+
+		for (int i = 0; i < FLUSH_TICKS; i++)
+		{
+			harness.tick();
+		}
+
+		// The flush stored the snapshot, which posts a ConfigChanged for the profile
+		assertEquals("10,0,0", harness.getProfileConfig(ProfileSnapshots.KEY));
+		assertEquals(rebuilds, harness.getOverlayRebuilds());
+	}
+
+	@Test
+	public void testRestoredStreakIsNotACompletion() throws Exception
+	{
+		harness.setVarbit(VarbitID.SLAYER_TASKS_COMPLETED, 10);
+		harness.tick();
+
+		// Logging out saves the snapshot, and the next login restores it
+		harness.setGameState(GameState.LOGIN_SCREEN);
+		assertEquals("10,0,0", harness.getProfileConfig(ProfileSnapshots.KEY));
+		harness.getFakeClient().setVarbit(VarbitID.SLAYER_TASKS_COMPLETED, 0);
+		harness.setGameState(GameState.LOGGED_IN);
+		harness.tick();
+		assertEquals(10, harness.getPlugin().getState().getStreak());
+		assertNotNull(harness.getPlugin().getState().getNextMaster());
+
+		// A task done elsewhere since the snapshot, not just now
+		harness.setVarbit(VarbitID.SLAYER_TASKS_COMPLETED, 11);
+		harness.tick();
+		assertEquals(11, harness.getPlugin().getState().getStreak());
+
+		// The next one is
+		harness.setVarbit(VarbitID.SLAYER_TASKS_COMPLETED, 12);
+		harness.tick();
+
+		TaskHistory.Records records = TaskHistory.read(new File(harness.getDirectory(), "0.dat").toPath());
+		assertEquals(1, records.size());
+		assertEquals(12, records.getStreak(0));
+	}
+}
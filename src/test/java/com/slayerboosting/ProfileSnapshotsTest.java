@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.client.config.ConfigManager;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class ProfileSnapshotsTest
+{
+	private final Map<String, String> stored = new HashMap<>();
+	private int reads;
+	private int writes;
+
+	private ProfileSnapshots snapshots;
+
+	@Before
+	public void setUp()
+	{
+		ConfigManager configManager = mock(ConfigManager.class);
+		doAnswer(invocation ->
+		{
+			reads++;
+			return stored.get(invocation.<String>getArgument(1));
+		}).when(configManager).getConfiguration(anyString(), anyString(), anyString());
+		doAnswer(invocation ->
+		{
+			writes++;
+			stored.put(invocation.getArgument(1), invocation.getArgument(3));
+			return null;
+		}).when(configManager).setConfiguration(anyString(), anyString(), anyString(), anyString());
+
+		snapshots = new ProfileSnapshots(configManager);
+	}
+
+	@Test
+	public void testUpdatesAreWrittenOnFlush()
+	{
+		snapshots.update("rsprofile.a", 49, 1200, 310);
+		snapshots.update("rsprofile.a", 50, 1215, 311);
+		assertEquals(0, writes);
+
+		snapshots.flush();
+		assertEquals(1, writes);
+		assertEquals("50,1215,311", stored.get("rsprofile.a"));
+
+		// Unchanged state is not written again
+		snapshots.update("rsprofile.a", 50, 1215, 311);
+		snapshots.flush();
+		assertEquals(1, writes);
+	}
+
+	@Test
+	public void testRecentProfilesAreNotReadAgain()
+	{
+		stored.put("rsprofile.a", "10,20,30");
+
+		assertEquals(new ProfileSnapshots.Snapshot(10, 20, 30), snapshots.get("rsprofile.a"));
+		assertNull(snapshots.get("rsprofile.b"));
+		for (int i = 0; i < 100; i++)
+		{
+			snapshots.get("rsprofile.a");
+			snapshots.get("rsprofile.b");
+		}
+		assertEquals(2, reads);
+	}
+
+	@Test
+	public void testEvictedProfilesAreWritten()
+	{
+		snapshots.update("rsprofile.0", 1, 2, 3);
+		for (int i = 1; i <= ProfileSnapshots.MAX_PROFILES; i++)
+		{
+			snapshots.get("rsprofile." + i);
+		}
+
+		assertEquals(1, writes);
+		assertEquals("1,2,3", stored.get("rsprofile.0"));
+		assertEquals(new ProfileSnapshots.Snapshot(1, 2, 3), snapshots.get("rsprofile.0"));
+	}
+
+	@Test
+	public void testMalformedSnapshotIsIgnored()
+	{
+		stored.put("rsprofile.a", "10,twenty,30");
+		assertNull(snapshots.get("rsprofile.a"));
+	}
+}
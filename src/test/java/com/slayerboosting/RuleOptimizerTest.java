@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class RuleOptimizerTest
+{
+	/** Regular, 10th, 50th, 100th, 250th and 1,000th tasks in a 1,000-task cycle. */
+	private static final int[] TIER_COUNTS = {900, 80, 8, 8, 3, 1};
+
+	@Test
+	public void testMatchesBruteForce()
+	{
+		Random random = new Random(5);
+		for (int trial = 0; trial < 40; trial++)
+		{
+			double[] costs = new double[SlayerMaster.values().length];
+			for (int i = 0; i < costs.length; i++)
+			{
+				if (random.nextInt(3) > 0)
+				{
+					costs[i] = 0.5 + random.nextInt(40) / 10.0;
+				}
+			}
+			costs[random.nextInt(costs.length)] = 1;
+			int variant = random.nextInt(4);
+
+			RuleOptimizer.Solution solution = RuleOptimizer.solve(costs, variant);
+			assertNotNull(solution);
+
+			double best = bruteForce(costs, variant, new int[SlayerMaster.TIER_COUNT], 0);
+			assertEquals(best, solution.getRate(), 1e-9);
+
+			// The emitted rules reproduce the optimal assignment
+			assertEquals(solution.getRate(),
+				RuleOptimizer.rate(solution.getRules(), solution.getDefaultMaster(), costs, variant), 1e-9);
+		}
+	}
+
+	@Test
+	public void testClassicBoosting()
+	{
+		// Short Turael tasks for the streak, big masters only on milestones
+		double[] costs = RuleOptimizer.parseCosts("TURAEL:1\nDURADEL:3\nKONAR:3");
+		RuleOptimizer.Solution solution = RuleOptimizer.solve(costs, SlayerMaster.getDiaryVariant(false, true));
+		assertNotNull(solution);
+		assertEquals(SlayerMaster.TURAEL, solution.getDefaultMaster());
+		assertTrue(solution.getRules().size() > 0);
+		assertEquals(SlayerMaster.KONAR, solution.getRules().getMaster(solution.getRules().match(1000)));
+	}
+
+	@Test
+	public void testNoMastersAllowed()
+	{
+		assertNull(RuleOptimizer.solve(RuleOptimizer.parseCosts(""), 0));
+	}
+
+	@Test
+	public void testSolveTime()
+	{
+		double[] costs = RuleOptimizer.parseCosts("TURAEL:1,MAZCHNA:1.5,VANNAKA:2,CHAELDAR:2.5,NIEVE:3,DURADEL:3,KONAR:3.5");
+		RuleOptimizer.solve(costs, 3);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < 100; i++)
+		{
+			RuleOptimizer.solve(costs, i & 3);
+		}
+		long perSolveMillis = (System.nanoTime() - start) / 100 / 1_000_000;
+		assertTrue("solve took " + perSolveMillis + " ms", perSolveMillis < 100);
+	}
+
+	private static double bruteForce(double[] costs, int variant, int[] assignment, int tier)
+	{
+		if (tier == assignment.length)
+		{
+			long points = 0;
+			double cost = 0;
+			for (int t = 0; t < assignment.length; t++)
+			{
+				points += (long) TIER_COUNTS[t] * SlayerMaster.fromOrdinal(assignment[t]).getPointsForTier(t, variant);
+				cost += TIER_COUNTS[t] * costs[assignment[t]];
+			}
+			return points / cost;
+		}
+
+		double best = Double.NEGATIVE_INFINITY;
+		for (int m = 0; m < costs.length; m++)
+		{
+			if (costs[m] > 0)
+			{
+				assignment[tier] = m;
+				best = Math.max(best, bruteForce(costs, variant, assignment, tier + 1));
+			}
+		}
+		return best;
+	}
+}
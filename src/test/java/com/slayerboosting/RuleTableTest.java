@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class RuleTableTest
+{
+	@Test
+	public void testLegacyRulesHighestIntervalWins()
+	{
+		RuleTable rules = RuleTable.parse("10:DURADEL\n50:Konar quo Maten\n10:NIEVE");
+
+		assertEquals("50:KONAR\n10:DURADEL\n10:NIEVE", ruleTexts(rules));
+		assertEquals(SlayerMaster.KONAR, rules.getMaster(rules.match(100)));
+		assertEquals(SlayerMaster.DURADEL, rules.getMaster(rules.match(30)));
+		assertEquals(-1, rules.match(31));
+		assertEquals(1, rules.getPreamble());
+		assertEquals(50, rules.getPeriod());
+	}
+
+	@Test
+	public void testEveryTenthExceptFiftieth()
+	{
+		RuleTable rules = RuleTable.parse("DURADEL: every 10 and not every 50");
+
+		for (int task = 1; task <= 1000; task++)
+		{
+			boolean expected = task % 10 == 0 && task % 50 != 0;
+			assertEquals("#" + task, expected ? 0 : -1, rules.match(task));
+		}
+	}
+
+	@Test
+	public void testKonarFromStreak500()
+	{
+		RuleTable rules = RuleTable.parse("KONAR: every 50 and from 500\nDURADEL: every 10");
+
+		assertEquals(SlayerMaster.DURADEL, rules.getMaster(rules.match(450)));
+		assertEquals(SlayerMaster.KONAR, rules.getMaster(rules.match(500)));
+		assertEquals(SlayerMaster.KONAR, rules.getMaster(rules.match(1_000_050)));
+		assertEquals(SlayerMaster.DURADEL, rules.getMaster(rules.match(510)));
+		assertEquals(500, rules.getPreamble());
+	}
+
+	@Test
+	public void testAlternatingMasters()
+	{
+		RuleTable rules = RuleTable.parse("DURADEL: every 20 at 10\nNIEVE: every 20");
+
+		assertEquals(SlayerMaster.DURADEL, rules.getMaster(rules.match(10)));
+		assertEquals(SlayerMaster.NIEVE, rules.getMaster(rules.match(20)));
+		assertEquals(SlayerMaster.DURADEL, rules.getMaster(rules.match(30)));
+		assertEquals(SlayerMaster.NIEVE, rules.getMaster(rules.match(40)));
+		assertEquals(-1, rules.match(15));
+	}
+
+	@Test
+	public void testConditionKeepsDefaultIntervalPriority()
+	{
+		// Appending a condition to the defaults must not hand the 50th tasks to Duradel
+		RuleTable rules = RuleTable.parse("10:DURADEL\n50:KONAR\nNIEVE: every 7");
+
+		assertEquals(SlayerMaster.KONAR, rules.getMaster(rules.match(50)));
+		assertEquals(SlayerMaster.KONAR, rules.getMaster(rules.match(350)));
+		assertEquals(SlayerMaster.DURADEL, rules.getMaster(rules.match(10)));
+		assertEquals(SlayerMaster.DURADEL, rules.getMaster(rules.match(70)));
+		assertEquals(SlayerMaster.NIEVE, rules.getMaster(rules.match(7)));
+		assertEquals(-1, rules.match(11));
+		assertEquals("50:KONAR\n10:DURADEL\nNIEVE: every 7", ruleTexts(rules));
+	}
+
+	@Test
+	public void testConditionsFollowIntervalsInWrittenOrder()
+	{
+		RuleTable rules = RuleTable.parse("KONAR: every 5\nDURADEL: every 10\n3:NIEVE");
+
+		assertEquals(SlayerMaster.NIEVE, rules.getMaster(rules.match(30)));
+		assertEquals(SlayerMaster.KONAR, rules.getMaster(rules.match(10)));
+		assertEquals("3:NIEVE\nKONAR: every 5\nDURADEL: every 10", ruleTexts(rules));
+	}
+
+	@Test
+	public void testPrecedence()
+	{
+		// not binds tighter than and, which binds tighter than or
+		RuleTable rules = RuleTable.parse("KONAR: not every 2 and every 3 or every 5 and until 10");
+
+		assertEquals(0, rules.match(3));
+		assertEquals(-1, rules.match(6));
+		assertEquals(0, rules.match(10));
+		assertEquals(-1, rules.match(20));
+		assertEquals(0, rules.match(15));
+		assertEquals(11, rules.getPreamble());
+
+		rules = RuleTable.parse("KONAR: not (every 2 and every 3)");
+		assertEquals(-1, rules.match(6));
+		assertEquals(0, rules.match(4));
+	}
+
+	@Test
+	public void testInvalidRulesAreSkipped()
+	{
+		RuleTable rules = RuleTable.parse("KONAR: every\nKONAR: every 0\nKONAR: (every 2\nKONAR: every 2 every 3\n"
+			+ "KONAR: from x\nNOBODY: every 2\n0:KONAR\nDURADEL: EVERY 10");
+
+		assertEquals(1, rules.size());
+		assertEquals(SlayerMaster.DURADEL, rules.getMaster(0));
+	}
+
+	@Test
+	public void testLookupTableAgreesWithRules()
+	{
+		String[] specs = {
+			"KONAR: every 50 and from 500\nDURADEL: every 10 or until 25",
+			"NIEVE: every 7 at 3 and not (from 100 and until 200)\nKONAR: every 11 or every 13",
+			// Period far beyond the lookup table limit
+			"KONAR: every 1009 and from 5\nDURADEL: every 1013 at 4 or until 20\nNIEVE: every 997",
+		};
+		boolean[] compiled = {true, true, false};
+
+		for (int i = 0; i < specs.length; i++)
+		{
+			RuleTable rules = RuleTable.parse(specs[i]);
+			assertEquals(specs[i], compiled[i], rules.isCompiled());
+
+			String[] lines = specs[i].split("\n");
+			RuleExpression[] conditions = new RuleExpression[lines.length];
+			for (int j = 0; j < lines.length; j++)
+			{
+				conditions[j] = RuleExpression.parse(lines[j].substring(lines[j].indexOf(':') + 1));
+			}
+
+			for (int task = 0; task <= 20_000; task++)
+			{
+				int expected = -1;
+				for (int j = 0; j < conditions.length && expected < 0; j++)
+				{
+					if (conditions[j].test(task, task))
+					{
+						expected = j;
+					}
+				}
+				assertEquals(specs[i] + " #" + task, expected, rules.match(task));
+			}
+		}
+	}
+
+	@Test
+	public void testEquality()
+	{
+		assertTrue(RuleTable.parse("50:KONAR\n10:DURADEL").equals(RuleTable.parse("10:DURADEL,50:KONAR")));
+		assertFalse(RuleTable.parse("KONAR: every 50").equals(RuleTable.parse("KONAR: every 50 at 1")));
+		assertEquals(RuleTable.EMPTY, RuleTable.parse(" "));
+	}
+
+	/**
+	 * The rule texts of a table in matching order, one per line.
+	 */
+	private static String ruleTexts(RuleTable rules)
+	{
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < rules.size(); i++)
+		{
+			if (i > 0)
+			{
+				text.append('\n');
+			}
+			text.append(rules.getRuleText(i));
+		}
+		return text.toString();
+	}
+}
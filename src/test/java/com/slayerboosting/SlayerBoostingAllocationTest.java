@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.util.function.IntUnaryOperator;
+import net.runelite.api.NPC;
+import net.runelite.api.events.VarbitChanged;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Allocation budgets for the plugin's steady-state hot paths, measured with the
+ * thread allocation counter of {@link com.sun.management.ThreadMXBean}.
+ *
+ * <p>Each path is warmed up first, so lazily built caches and the overlay image are
+ * in place, then run many times with a small fixed allowance for the measurement
+ * itself. Anything allocated per call, even a single boxed value, exceeds it.</p>
+ */
+public class SlayerBoostingAllocationTest
+{
+	private static final int SCENE_SIZE = 2000;
+	private static final int WARMUP_OPERATIONS = 20_000;
+	private static final int OPERATIONS = 200_000;
+
+	/** Bytes the measurement may allocate regardless of the operation count. */
+	private static final long MEASUREMENT_SLACK = 1024;
+
+	private com.sun.management.ThreadMXBean threads;
+	private PluginHarness harness;
+	private NPC[] scene;
+
+	/** Keeps results live so the measured calls cannot be optimised away. */
+	private long sink;
+
+	@Before
+	public void before() throws Exception
+	{
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		assumeTrue("thread allocation counters unavailable", bean instanceof com.sun.management.ThreadMXBean);
+		threads = (com.sun.management.ThreadMXBean) bean;
+		assumeTrue("thread allocation counters unavailable", threads.isThreadAllocatedMemorySupported());
+		threads.setThreadAllocatedMemoryEnabled(true);
+
+		harness = new PluginHarness();
+		harness.startUp();
+		harness.tick();
+
+		scene = PluginHarness.scene(SCENE_SIZE, 13);
+		for (NPC npc : scene)
+		{
+			harness.spawn(npc);
+		}
+		harness.tick();
+	}
+
+	@After
+	public void after() throws Exception
+	{
+		if (harness != null)
+		{
+			harness.shutDown();
+		}
+	}
+
+	@Test
+	public void testPointsForTask()
+	{
+		SlayerMaster[] masters = SlayerMaster.values();
+		assertNoAllocation("getPointsForTask", i ->
+		{
+			SlayerMaster master = masters[i % masters.length];
+			return master.getPointsForTask(i) + master.getPointsForTask(i, (i & 1) != 0, (i & 2) != 0);
+		});
+	}
+
+	@Test
+	public void testFromNpcName()
+	{
+		String[] names = new String[scene.length];
+		for (int i = 0; i < names.length; i++)
+		{
+			// Every other name in upper case, as the lookup ignores case
+			names[i] = i % 2 == 0 ? scene[i].getName() : scene[i].getName().toUpperCase();
+		}
+		assertNoAllocation("fromNpcName", i ->
+		{
+			SlayerMaster master = SlayerMaster.fromNpcName(names[i % names.length]);
+			return master == null ? -1 : master.ordinal();
+		});
+	}
+
+	@Test
+	public void testUnrelatedVarbitChanged()
+	{
+		SlayerBoostingPlugin plugin = harness.getPlugin();
+		VarbitChanged event = new VarbitChanged();
+		event.setVarpId(-1);
+		assertNoAllocation("onVarbitChanged", i ->
+		{
+			event.setVarbitId(10_000 + i % 4000);
+			event.setValue(i);
+			plugin.onVarbitChanged(event);
+			return 0;
+		});
+		assertTrue(plugin.getMetrics().getVarbitEventsIgnored().sum() >= WARMUP_OPERATIONS + OPERATIONS);
+	}
+
+	@Test
+	public void testHighlightNpc()
+	{
+		SlayerBoostingPlugin plugin = harness.getPlugin();
+		int masters = 0;
+		for (NPC npc : scene)
+		{
+			if (plugin.highlightNpc(npc) != null)
+			{
+				masters++;
+			}
+		}
+		assertTrue("scene should contain highlighted masters", masters > 0);
+
+		assertNoAllocation("highlightNpc", i -> plugin.highlightNpc(scene[i % scene.length]) == null ? 0 : 1);
+	}
+
+	@Test
+	public void testOverlayRender()
+	{
+		// The optimizer runs inline, so its result will not redraw the overlay mid-measurement
+		harness.changeConfig("showOptimalRate", () -> harness.getConfig().showOptimalRate = true);
+		harness.tick();
+		assertNotNull(harness.getPlugin().getOptimalRules());
+
+		SlayerBoostingOverlay overlay = harness.getOverlay();
+		BufferedImage image = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = image.createGraphics();
+		try
+		{
+			assertNotNull(overlay.render(graphics));
+			assertNoAllocation("render", i -> overlay.render(graphics).width);
+		}
+		finally
+		{
+			graphics.dispose();
+		}
+	}
+
+	/**
+	 * Run an operation {@link #WARMUP_OPERATIONS} times, then assert that another
+	 * {@link #OPERATIONS} runs allocate no more than {@link #MEASUREMENT_SLACK} bytes.
+	 */
+	private void assertNoAllocation(String what, IntUnaryOperator operation)
+	{
+		for (int i = 0; i < WARMUP_OPERATIONS; i++)
+		{
+			sink += operation.applyAsInt(i);
+		}
+
+		long thread = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < OPERATIONS; i++)
+		{
+			sink += operation.applyAsInt(i);
+		}
+		long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+		assertTrue(String.format("%s: %d bytes over %d calls, expected none", what, allocated, OPERATIONS),
+			allocated <= MEASUREMENT_SLACK);
+	}
+}
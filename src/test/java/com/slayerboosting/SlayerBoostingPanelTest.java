@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.awt.Component;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.ListCellRenderer;
+import javax.swing.SwingUtilities;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class SlayerBoostingPanelTest
+{
+	private static final RuleTable RULES = RuleTable.parse("10:DURADEL\n50:KONAR");
+
+	@Test
+	public void testRowsFollowRules() throws Exception
+	{
+		SlayerBoostingPanel panel = new SlayerBoostingPanel();
+		panel.setTimeline(new SlayerBoostingPanel.Timeline(41, RULES, SlayerMaster.TURAEL, false, true));
+		SwingUtilities.invokeAndWait(() -> {});
+
+		JList<Integer> list = panel.list;
+		ListCellRenderer<? super Integer> renderer = list.getCellRenderer();
+		assertEquals(SlayerBoostingPanel.TIMELINE_PAGE, list.getModel().getSize());
+
+		// Every row is drawn with the same component
+		Component first = renderer.getListCellRendererComponent(list, list.getModel().getElementAt(0), 0, false, false);
+		for (int i = 0; i < list.getModel().getSize(); i++)
+		{
+			int task = list.getModel().getElementAt(i);
+			assertEquals(41 + i, task);
+			assertSame(first, renderer.getListCellRendererComponent(list, task, i, false, false));
+		}
+
+		assertRow(list, 9, "#50", SlayerMaster.KONAR, SlayerMaster.KONAR.getPointsForTask(50, false, true));
+		assertRow(list, 19, "#60", SlayerMaster.DURADEL, SlayerMaster.DURADEL.getPointsForTask(60, false, true));
+		assertRow(list, 20, "#61", SlayerMaster.TURAEL, 0);
+	}
+
+	@Test
+	public void testListDoesNotMeasureRows() throws Exception
+	{
+		SlayerBoostingPanel panel = new SlayerBoostingPanel();
+		panel.setTimeline(new SlayerBoostingPanel.Timeline(1, RULES, SlayerMaster.TURAEL, false, false));
+		SwingUtilities.invokeAndWait(() -> {});
+
+		JList<Integer> list = panel.list;
+		ListCellRenderer<? super Integer> renderer = list.getCellRenderer();
+		AtomicInteger calls = new AtomicInteger();
+		list.setCellRenderer((l, value, index, selected, focus) ->
+		{
+			calls.incrementAndGet();
+			return renderer.getListCellRendererComponent(l, value, index, selected, focus);
+		});
+
+		// A long way down, the list is still only sized, not measured
+		panel.ensureRows(1_000_000);
+		int last = list.getModel().getSize() - 1;
+		list.getPreferredSize();
+		list.getUI().getCellBounds(list, last, last);
+		assertEquals(0, calls.get());
+	}
+
+	@Test
+	public void testListGrowsAsItScrolls() throws Exception
+	{
+		SlayerBoostingPanel panel = new SlayerBoostingPanel();
+		panel.setTimeline(new SlayerBoostingPanel.Timeline(1, RULES, SlayerMaster.TURAEL, false, false));
+		SwingUtilities.invokeAndWait(() -> {});
+		int page = SlayerBoostingPanel.TIMELINE_PAGE;
+		JList<Integer> list = panel.list;
+
+		panel.ensureRows(page / 2 - 2);
+		assertEquals(page, list.getModel().getSize());
+		panel.ensureRows(page / 2);
+		assertEquals(2 * page, list.getModel().getSize());
+
+		panel.ensureRows(123_456);
+		int size = list.getModel().getSize();
+		assertEquals(0, size % page);
+		assertEquals(123_457, (int) list.getModel().getElementAt(123_456));
+
+		// A new first task keeps the rows scrolled to so far
+		panel.setTimeline(new SlayerBoostingPanel.Timeline(2, RULES, SlayerMaster.TURAEL, false, false));
+		SwingUtilities.invokeAndWait(() -> {});
+		assertEquals(size, list.getModel().getSize());
+
+		// The list ends at the last task number there is
+		panel.setTimeline(new SlayerBoostingPanel.Timeline(Integer.MAX_VALUE - 9, RULES, SlayerMaster.TURAEL, false, false));
+		SwingUtilities.invokeAndWait(() -> {});
+		assertEquals(10, list.getModel().getSize());
+		assertEquals(Integer.MAX_VALUE, (int) list.getModel().getElementAt(9));
+	}
+
+	@Test
+	public void testNoTimelineBeforeLogin() throws Exception
+	{
+		SlayerBoostingPanel panel = new SlayerBoostingPanel();
+		panel.setTimeline(new SlayerBoostingPanel.Timeline(1, RULES, SlayerMaster.TURAEL, false, false));
+		panel.setTimeline(null);
+		SwingUtilities.invokeAndWait(() -> {});
+
+		assertEquals(0, panel.list.getModel().getSize());
+	}
+
+	private static void assertRow(JList<Integer> list, int index, String task, SlayerMaster master, int points)
+	{
+		JPanel row = (JPanel) list.getCellRenderer()
+			.getListCellRendererComponent(list, list.getModel().getElementAt(index), index, false, false);
+		assertEquals(task, ((JLabel) row.getComponent(0)).getText());
+		assertEquals(master.getDisplayName(), ((JLabel) row.getComponent(1)).getText());
+		assertEquals(String.valueOf(points), ((JLabel) row.getComponent(2)).getText());
+	}
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.LongAdder;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.gameval.VarPlayerID;
+import net.runelite.api.gameval.VarbitID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Drives the plugin's event handlers at high rates through {@link PluginHarness}.
+ *
+ * <p>Assertions count the work done per event through {@link PluginMetrics}, such
+ * as rule evaluations, overlay rebuilds and redraws, so they hold on any machine.
+ * Throughput is measured by the JMH benchmarks instead.</p>
+ */
+public class SlayerBoostingPluginStressTest
+{
+	private static final int SCENE_SIZE = 2000;
+
+	private PluginHarness harness;
+	private NPC[] scene;
+	private int masterCount;
+
+	@Before
+	public void before() throws Exception
+	{
+		harness = new PluginHarness();
+		harness.startUp();
+		harness.tick();
+
+		scene = PluginHarness.scene(SCENE_SIZE, 11);
+		for (NPC npc : scene)
+		{
+			if (SlayerMaster.isSlayerMaster(npc.getName()))
+			{
+				masterCount++;
+			}
+		}
+		assertTrue("scene should contain masters", masterCount > 0);
+	}
+
+	@After
+	public void after() throws Exception
+	{
+		harness.shutDown();
+	}
+
+	@Test
+	public void testSceneLoad()
+	{
+		PluginMetrics metrics = harness.getPlugin().getMetrics();
+		metrics.reset();
+
+		for (NPC npc : scene)
+		{
+			harness.spawn(npc);
+		}
+		harness.tick();
+
+		assertEquals(masterCount, harness.getTrackedMasterCount());
+		assertEquals(SCENE_SIZE, metrics.getNpcSpawnsSeen().sum());
+		assertEquals(masterCount, metrics.getNpcSpawnsMatched().sum());
+		assertEquals("spawns alone should not rebuild the overlay", 0, metrics.getOverlayRebuilds().sum());
+		assertEquals("spawns alone should not evaluate the rules", 0, evaluations());
+
+		// Despawning the whole scene releases every master
+		for (NPC npc : scene)
+		{
+			harness.despawn(npc);
+		}
+		harness.tick();
+		assertEquals(0, harness.getTrackedMasterCount());
+	}
+
+	@Test
+	public void testVarbitStorm()
+	{
+		final int events = 100_000;
+		final int eventsPerTick = 100;
+		PluginMetrics metrics = harness.getPlugin().getMetrics();
+		int streak = 0;
+
+		BufferedImage image = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = image.createGraphics();
+		try
+		{
+			renderFrames(graphics, 1);
+			metrics.reset();
+
+			for (int i = 1; i <= events; i++)
+			{
+				if (i % 1000 == 0)
+				{
+					// A completed task now and then, with the task counter cleared
+					harness.setVarbit(VarbitID.SLAYER_TASKS_COMPLETED, ++streak);
+					harness.setVarp(VarPlayerID.SLAYER_COUNT, 0);
+				}
+				else
+				{
+					// Unrelated varbit churn from combat and skilling
+					harness.setVarbit(10_000 + (i % 4000), i);
+				}
+
+				if (i % eventsPerTick == 0)
+				{
+					harness.tick();
+					renderFrames(graphics, 1);
+				}
+			}
+		}
+		finally
+		{
+			graphics.dispose();
+		}
+
+		// Each completion lands in its own tick, and nothing else changes what is shown
+		assertEquals(streak, harness.getPlugin().getState().getStreak());
+		assertEquals("one evaluation per task completion", streak, evaluations());
+		assertEquals("one rebuild per task completion", streak, metrics.getOverlayRebuilds().sum());
+		assertEquals("one redraw per task completion", streak, metrics.getInfoOverlayRedraws().sum());
+		assertEquals(events + streak, metrics.get(PluginMetrics.Timer.VARBIT_CHANGED).getCount());
+		assertEquals(2 * streak, metrics.getVarbitEventsAccepted().sum());
+		assertEquals(events - streak, metrics.getVarbitEventsIgnored().sum());
+	}
+
+	@Test
+	public void testLoginLogoutCycles()
+	{
+		final int cycles = 200;
+		PluginMetrics metrics = harness.getPlugin().getMetrics();
+
+		// Log out first so every cycle is a fresh login
+		harness.setGameState(GameState.LOGIN_SCREEN);
+		metrics.reset();
+
+		for (int cycle = 0; cycle < cycles; cycle++)
+		{
+			harness.setGameState(GameState.LOGGED_IN);
+			for (NPC npc : scene)
+			{
+				harness.spawn(npc);
+			}
+			harness.tick();
+			assertEquals(masterCount, harness.getTrackedMasterCount());
+
+			// Hopping reloads the scene without despawning first
+			harness.setGameState(GameState.LOADING);
+			for (NPC npc : scene)
+			{
+				harness.spawn(npc);
+			}
+			harness.setGameState(GameState.LOGGED_IN);
+			harness.tick();
+			assertEquals(masterCount, harness.getTrackedMasterCount());
+
+			harness.setGameState(GameState.LOGIN_SCREEN);
+			assertEquals(0, harness.getTrackedMasterCount());
+		}
+
+		assertEquals(cycles * SCENE_SIZE * 2, metrics.getNpcSpawnsSeen().sum());
+		assertEquals(cycles * masterCount * 2, metrics.getNpcSpawnsMatched().sum());
+		// Only the first tick after each login changes the state; the reload after the hop does not
+		assertEquals("one evaluation per login", cycles, evaluations());
+		assertEquals("one rebuild per login", cycles, metrics.getOverlayRebuilds().sum());
+	}
+
+	@Test
+	public void testConfigChangeBurst()
+	{
+		int rebuilds = harness.getOverlayRebuilds();
+
+		// Dragging a colour picker posts a config change per step
+		for (int i = 0; i < 1000; i++)
+		{
+			final int step = i;
+			harness.changeConfig("correctMasterColor",
+				() -> harness.getConfig().correctMasterColor = new Color(0, step % 256, 0));
+		}
+		harness.tick();
+
+		assertEquals(1, harness.getOverlayRebuilds() - rebuilds);
+	}
+
+	@Test
+	public void testOptimizerRunsOnlyWhileShown()
+	{
+		// Hidden by default, so startup and rule changes leave it unsolved
+		harness.changeConfig("rules", () -> harness.getConfig().rules = "20:KONAR");
+		harness.tick();
+		assertNull(harness.getPlugin().getOptimalRules());
+
+		harness.changeConfig("showOptimalRate", () -> harness.getConfig().showOptimalRate = true);
+		harness.tick();
+		assertNotNull(harness.getPlugin().getOptimalRules());
+	}
+
+	@Test
+	public void testOverlayRedrawsOnlyOnChange()
+	{
+		// The optimizer runs inline, so its result is shown before the first frame
+		harness.changeConfig("showOptimalRate", () -> harness.getConfig().showOptimalRate = true);
+		harness.tick();
+		assertNotNull(harness.getPlugin().getOptimalRules());
+
+		LongAdder redraws = harness.getPlugin().getMetrics().getInfoOverlayRedraws();
+		BufferedImage image = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = image.createGraphics();
+		try
+		{
+			long before = redraws.sum();
+			renderFrames(graphics, 10_000);
+			assertEquals(1, redraws.sum() - before);
+
+			// A completed task changes what the panel shows
+			harness.setVarbit(VarbitID.SLAYER_TASKS_COMPLETED, 1);
+			harness.tick();
+			renderFrames(graphics, 100);
+			assertEquals(2, redraws.sum() - before);
+
+			// Unrelated ticks do not
+			harness.tick();
+			renderFrames(graphics, 100);
+			assertEquals(2, redraws.sum() - before);
+
+			graphics.setFont(graphics.getFont().deriveFont(20f));
+			renderFrames(graphics, 100);
+			assertEquals(3, redraws.sum() - before);
+		}
+		finally
+		{
+			graphics.dispose();
+		}
+	}
+
+	private void renderFrames(Graphics2D graphics, int frames)
+	{
+		for (int i = 0; i < frames; i++)
+		{
+			assertNotNull(harness.getOverlay().render(graphics));
+		}
+	}
+
+	private long evaluations()
+	{
+		return harness.getPlugin().getMetrics().get(PluginMetrics.Timer.EVALUATE_RULES).getCount();
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class SlayerChatMatcherTest
+{
+	private final SlayerChatMatcher matcher = new SlayerChatMatcher();
+
+	@Test
+	public void testCompletionWithPoints()
+	{
+		assertTrue(matcher.match("You've completed <col=ff0000>1,249</col> tasks and received <col=ff0000>15</col> points,"
+			+ " giving you a total of <col=ff0000>12,345</col>; return to a Slayer master."));
+		assertEquals(SlayerChatMatcher.Event.COMPLETED, matcher.getEvent());
+		assertEquals(1249, matcher.getStreak());
+		assertEquals(15, matcher.getPointsAwarded());
+		assertEquals(12345, matcher.getPoints());
+	}
+
+	@Test
+	public void testCompletionWithoutPoints()
+	{
+		assertTrue(matcher.match("You've completed 3 tasks; return to a Slayer master."));
+		assertEquals(3, matcher.getStreak());
+		assertEquals(-1, matcher.getPointsAwarded());
+		assertEquals(-1, matcher.getPoints());
+
+		assertTrue(matcher.match("You've completed at least 12 tasks; return to a Slayer master."));
+		assertEquals(12, matcher.getStreak());
+	}
+
+	@Test
+	public void testCompletionAtMaximumPoints()
+	{
+		assertTrue(matcher.match("You've completed 500 tasks and reached the maximum amount of Slayer points (64,000); return to a Slayer master."));
+		assertEquals(500, matcher.getStreak());
+		assertEquals(64000, matcher.getPoints());
+	}
+
+	@Test
+	public void testAssignment()
+	{
+		assertTrue(matcher.match("You're assigned to kill kalphite; only 120 more to go."));
+		assertEquals(SlayerChatMatcher.Event.ASSIGNED, matcher.getEvent());
+		assertEquals(120, matcher.getAmount());
+		assertNull(matcher.getMaster());
+
+		assertTrue(matcher.match("You have received a new Slayer assignment from Konar quo Maten: Hellhounds in the Stronghold Slayer Cave; only 150 more to go."));
+		assertEquals(SlayerChatMatcher.Event.ASSIGNED, matcher.getEvent());
+		assertEquals(150, matcher.getAmount());
+		assertEquals(SlayerMaster.KONAR, matcher.getMaster());
+
+		assertTrue(matcher.match("You have received a new Slayer assignment from Turael: Cows; only 19 more to go."));
+		assertEquals(SlayerMaster.TURAEL, matcher.getMaster());
+		assertEquals(19, matcher.getAmount());
+	}
+
+	@Test
+	public void testUnrelatedMessages()
+	{
+		assertFalse(matcher.match("Welcome to Old School RuneScape."));
+		assertFalse(matcher.match("You've completed the Cook's Assistant quest!"));
+		assertFalse(matcher.match(""));
+		assertFalse(matcher.match("<col=ff0000>Unclosed tag"));
+		assertFalse(matcher.match("\u263A\u00A0you've completed\u00A0"));
+	}
+}
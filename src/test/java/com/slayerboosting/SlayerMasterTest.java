@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class SlayerMasterTest
+{
+	private static final int MAX_TASK = 1_000_000;
+
+	@Test
+	public void testPointsTableMatchesModuloCascade()
+	{
+		for (SlayerMaster master : SlayerMaster.values())
+		{
+			for (int task = -1; task <= MAX_TASK; task++)
+			{
+				// Build assertion messages only on mismatch, the loop covers millions of cases
+				if (legacyPoints(master, task) != master.getPointsForTask(task))
+				{
+					assertEquals(master + " #" + task, legacyPoints(master, task), master.getPointsForTask(task));
+				}
+
+				for (int variant = 0; variant < 4; variant++)
+				{
+					boolean western = (variant & 1) != 0;
+					boolean kourend = (variant & 2) != 0;
+					int expected = legacyPoints(master, task, western, kourend);
+					if (expected != master.getPointsForTask(task, western, kourend))
+					{
+						assertEquals(master + " #" + task + " diaries " + variant,
+							expected, master.getPointsForTask(task, western, kourend));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testMilestoneLabelMatchesModuloCascade()
+	{
+		for (int task = -1; task <= MAX_TASK; task++)
+		{
+			String expected = legacyLabel(task);
+			if (!expected.equals(SlayerMaster.getMilestoneLabel(task)))
+			{
+				assertEquals("#" + task, expected, SlayerMaster.getMilestoneLabel(task));
+			}
+		}
+	}
+
+	@Test
+	public void testFromNpcName()
+	{
+		for (SlayerMaster master : SlayerMaster.values())
+		{
+			for (String name : master.getNpcNames())
+			{
+				assertEquals(master, SlayerMaster.fromNpcName(name));
+				assertEquals(master, SlayerMaster.fromNpcName(name.toUpperCase()));
+				assertEquals(master, SlayerMaster.fromNpcName(name.toLowerCase()));
+			}
+		}
+		assertNull(SlayerMaster.fromNpcName("Goblin"));
+		assertNull(SlayerMaster.fromNpcName(""));
+		assertNull(SlayerMaster.fromNpcName(null));
+	}
+
+	// Reference implementation: the modulo cascades the points table replaced
+
+	private static int legacyPoints(SlayerMaster master, int taskNumber)
+	{
+		if (taskNumber > 0 && taskNumber % 1000 == 0)
+		{
+			return master.getPoints1000th();
+		}
+		if (taskNumber > 0 && taskNumber % 250 == 0)
+		{
+			return master.getPoints250th();
+		}
+		if (taskNumber > 0 && taskNumber % 100 == 0)
+		{
+			return master.getPoints100th();
+		}
+		if (taskNumber > 0 && taskNumber % 50 == 0)
+		{
+			return master.getPoints50th();
+		}
+		if (taskNumber > 0 && taskNumber % 10 == 0)
+		{
+			return master.getPoints10th();
+		}
+		return master.getBasePoints();
+	}
+
+	private static int legacyPoints(SlayerMaster master, int taskNumber, boolean eliteWesternDiary, boolean eliteKourendDiary)
+	{
+		int pts = legacyPoints(master, taskNumber);
+		if (master == SlayerMaster.NIEVE && eliteWesternDiary)
+		{
+			pts = (int) Math.round(pts * 1.25);
+		}
+		else if (master == SlayerMaster.KONAR && eliteKourendDiary)
+		{
+			pts = legacyKourendDiaryPoints(taskNumber);
+		}
+		return pts;
+	}
+
+	private static int legacyKourendDiaryPoints(int taskNumber)
+	{
+		if (taskNumber > 0 && taskNumber % 1000 == 0)
+		{
+			return 1000;
+		}
+		if (taskNumber > 0 && taskNumber % 250 == 0)
+		{
+			return 700;
+		}
+		if (taskNumber > 0 && taskNumber % 100 == 0)
+		{
+			return 500;
+		}
+		if (taskNumber > 0 && taskNumber % 50 == 0)
+		{
+			return 300;
+		}
+		if (taskNumber > 0 && taskNumber % 10 == 0)
+		{
+			return 100;
+		}
+		return 20;
+	}
+
+	private static String legacyLabel(int taskNumber)
+	{
+		if (taskNumber > 0 && taskNumber % 1000 == 0)
+		{
+			return "1,000th";
+		}
+		if (taskNumber > 0 && taskNumber % 250 == 0)
+		{
+			return "250th";
+		}
+		if (taskNumber > 0 && taskNumber % 100 == 0)
+		{
+			return "100th";
+		}
+		if (taskNumber > 0 && taskNumber % 50 == 0)
+		{
+			return "50th";
+		}
+		if (taskNumber > 0 && taskNumber % 10 == 0)
+		{
+			return "10th";
+		}
+		return "";
+	}
+}
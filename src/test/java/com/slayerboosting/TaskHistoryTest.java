@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, Matthew Griffiths
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.slayerboosting;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TaskHistoryTest
+{
+	private static final long START = 1_760_000_000_000L;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+	@After
+	public void tearDown()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testRecordsRoundTrip() throws Exception
+	{
+		Path file = folder.getRoot().toPath().resolve("history").resolve("1234.dat");
+
+		TaskHistory history = new TaskHistory(file, executor);
+		for (int streak = 1; streak <= 1000; streak++)
+		{
+			SlayerMaster master = streak % 10 == 0 ? SlayerMaster.DURADEL : SlayerMaster.TURAEL;
+			history.append(START + streak * 60_000L, streak, master.getPointsForTask(streak), master, SlayerMaster.getTier(streak));
+		}
+		history.append(START, 1001, 0, null, 0);
+		close(history);
+
+		assertEquals(TaskHistory.HEADER_SIZE + 1001L * TaskHistory.RECORD_SIZE, Files.size(file));
+
+		TaskHistory.Records records = TaskHistory.read(file);
+		assertEquals(1001, records.size());
+
+		long total = 0;
+		for (int i = 0; i < 1000; i++)
+		{
+			int streak = i + 1;
+			SlayerMaster master = streak % 10 == 0 ? SlayerMaster.DURADEL : SlayerMaster.TURAEL;
+			assertEquals(START + streak * 60_000L, records.getTimestamp(i));
+			assertEquals(streak, records.getStreak(i));
+			assertEquals(master.getPointsForTask(streak), records.getPointsDelta(i));
+			assertEquals(master, records.getMaster(i));
+			assertEquals(SlayerMaster.getTier(streak), records.getTier(i));
+			total += master.getPointsForTask(streak);
+		}
+		assertNull(records.getMaster(1000));
+		assertEquals(total, records.getTotalPoints());
+	}
+
+	@Test
+	public void testAppendsAcrossSessions() throws Exception
+	{
+		Path file = folder.getRoot().toPath().resolve("1234.dat");
+
+		TaskHistory first = new TaskHistory(file, executor);
+		first.append(START, 1, 2, SlayerMaster.KONAR, 0);
+		close(first);
+
+		TaskHistory second = new TaskHistory(file, executor);
+		second.append(START, 2, 3, SlayerMaster.KONAR, 0);
+		close(second);
+
+		TaskHistory.Records records = TaskHistory.read(file);
+		assertEquals(2, records.size());
+		assertEquals(1, records.getStreak(0));
+		assertEquals(2, records.getStreak(1));
+	}
+
+	@Test
+	public void testMissingFileReadsEmpty() throws Exception
+	{
+		assertEquals(0, TaskHistory.read(folder.getRoot().toPath().resolve("missing.dat")).size());
+	}
+
+	@Test(expected = IOException.class)
+	public void testRejectsForeignFile() throws Exception
+	{
+		Path file = folder.newFile("foreign.dat").toPath();
+		Files.write(file, new byte[TaskHistory.HEADER_SIZE + TaskHistory.RECORD_SIZE]);
+		TaskHistory.read(file);
+	}
+
+	/**
+	 * Close a history and wait for the executor to write it out.
+	 */
+	private void close(TaskHistory history) throws Exception
+	{
+		history.close();
+		assertTrue(executor.submit(() -> true).get(5, TimeUnit.SECONDS));
+	}
+}